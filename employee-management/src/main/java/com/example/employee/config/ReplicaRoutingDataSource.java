@@ -0,0 +1,144 @@
+package com.example.employee.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Sends read-only transactions to a healthy replica, round robin, and everything else to the primary.
+ * <p>
+ * The route is decided when a connection is first needed, so this data source must sit behind a
+ * {@code LazyConnectionDataSourceProxy}: only then has the transaction manager published the read-only flag.
+ * A user who started a read-write transaction stays pinned to the primary for the read-your-writes window,
+ * so their next reads cannot observe replication lag. Replicas that fail {@link #checkReplicas} are skipped
+ * until they pass again; with none available reads fall back to the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final String PRIMARY = "primary";
+
+    private final List<DataSource> replicas;
+    private final AtomicIntegerArray healthy;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Cache<String, Boolean> pinnedUsers;
+    private final Duration healthCheckTimeout;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration readYourWritesWindow,
+                                    Duration healthCheckTimeout) {
+        this.healthCheckTimeout = healthCheckTimeout;
+        this.replicas = List.copyOf(replicas);
+        this.healthy = new AtomicIntegerArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            healthy.set(i, 1);
+        }
+        this.pinnedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(100_000)
+                .build();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(replicaKey(i), replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                pinnedUsers.put(user, Boolean.TRUE);
+            }
+            return PRIMARY;
+        }
+        if (user != null && pinnedUsers.getIfPresent(user) != null) {
+            return PRIMARY;
+        }
+        int count = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(count, 1));
+        for (int i = 0; i < count; i++) {
+            int candidate = (start + i) % count;
+            if (healthy.get(candidate) == 1) {
+                return replicaKey(candidate);
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Validates one connection per replica and takes failing replicas out of rotation until they recover.
+     */
+    @Scheduled(fixedDelayString = "${replicas.health-check-interval:PT10S}")
+    public void checkReplicas() {
+        int seconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+        for (int i = 0; i < replicas.size(); i++) {
+            boolean ok;
+            try (Connection connection = replicas.get(i).getConnection()) {
+                ok = connection.isValid(seconds);
+            } catch (Exception e) {
+                ok = false;
+            }
+            int previous = healthy.getAndSet(i, ok ? 1 : 0);
+            if (previous == 1 && !ok) {
+                log.warn("Replica {} failed its health check, routing its reads elsewhere", i);
+            } else if (previous == 0 && ok) {
+                log.info("Replica {} is healthy again", i);
+            }
+        }
+    }
+
+    /**
+     * Health of each replica by index, as last seen by {@link #checkReplicas}.
+     */
+    public Map<String, Boolean> replicaHealth() {
+        Map<String, Boolean> health = new HashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            health.put(replicaKey(i), healthy.get(i) == 1);
+        }
+        return health;
+    }
+
+    /**
+     * Closes the replica pools, which are created for this data source; the primary is owned by its caller.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static String replicaKey(int index) {
+        return "replica-" + index;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.employee.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache: one bounded, expiring Caffeine region per cached entity or collection, created
+ * programmatically and handed to Hibernate's JCache region factory. Hibernate fails on a missing region rather than
+ * silently creating an unbounded one.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // region names referenced by the @Cache annotations on the entities
+    public static final String EMPLOYEES = "employees";
+    public static final String USERS = "users";
+    public static final String USER_ROLES = "users.roles";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${l2cache.employees.max-size:100000}") long employeesMaxSize,
+                                              @Value("${l2cache.employees.ttl:1h}") Duration employeesTtl,
+                                              @Value("${l2cache.users.max-size:10000}") long usersMaxSize,
+                                              @Value("${l2cache.users.ttl:10m}") Duration usersTtl) {
+        // a private manager per application context; the provider would otherwise share one per class loader
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("urn:employee-management:l2:" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(EMPLOYEES, region(employeesMaxSize, employeesTtl));
+        cacheManager.createCache(USERS, region(usersMaxSize, usersTtl));
+        cacheManager.createCache(USER_ROLES, region(usersMaxSize, usersTtl));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /**
+     * Hit ratio, size and eviction meters per region, tagged {@code cache=<region>}.
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (String region : List.of(EMPLOYEES, USERS, USER_ROLES)) {
+                Cache<?, ?> cache = hibernateCacheManager.getCache(region).unwrap(Cache.class);
+                CaffeineCacheMetrics.monitor(registry, cache, "hibernate.l2." + region);
+            }
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        // Hibernate caches disassembled, immutable entries, so copying them on every access would be wasted work
+        configuration.setStoreByValue(false);
+        configuration.setNativeStatisticsEnabled(true);
+        return configuration;
+    }
+}
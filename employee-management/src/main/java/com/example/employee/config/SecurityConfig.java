@@ -0,0 +1,102 @@
+package com.example.employee.config;
+
+import com.example.employee.security.BCryptCalibrator;
+import com.example.employee.security.JwtAuthFilter;
+import com.example.employee.security.JwtUtil;
+import com.example.employee.security.PasswordHashingExecutor;
+import com.example.employee.security.PooledPasswordEncoder;
+import com.example.employee.security.PrincipalMode;
+import com.example.employee.service.CachedUserDetailsService;
+import com.example.employee.service.TokenRevocationService;
+import com.example.employee.service.UserService;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.time.Duration;
+
+@Configuration
+@EnableWebSecurity
+@EnableMethodSecurity
+public class SecurityConfig {
+
+    private final JwtUtil jwtUtil;
+
+    public SecurityConfig(JwtUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+    }
+
+    /**
+     * BCrypt with a fixed strength if {@code password.bcrypt.strength} is set, otherwise the highest strength
+     * that hashes within {@code password.bcrypt.target-latency} on this machine. Stored hashes with a lower
+     * strength are re-hashed on the next successful login.
+     */
+    @Bean
+    @Primary
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt.strength:0}") int strength,
+                                           @Value("${password.bcrypt.target-latency:250ms}") Duration targetLatency,
+                                           @Value("${password.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${password.bcrypt.max-strength:14}") int maxStrength) {
+        if (strength <= 0) {
+            strength = BCryptCalibrator.calibrate(targetLatency, minStrength, maxStrength);
+        }
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * The encoder used by logins and registrations: {@link #passwordEncoder} with its hashing on the bounded
+     * {@link PasswordHashingExecutor} pool.
+     */
+    @Bean
+    public PooledPasswordEncoder pooledPasswordEncoder(PasswordEncoder passwordEncoder,
+                                                       PasswordHashingExecutor passwordHashingExecutor) {
+        return new PooledPasswordEncoder(passwordEncoder, passwordHashingExecutor);
+    }
+
+    /**
+     * Login authentication. The user is read with {@link UserService#loadUserForLogin}, not from the user cache, so
+     * the principal carries the current token version. The lookup runs on the request thread; only the BCrypt
+     * comparison (and the re-hash of an outdated strength) goes to the hashing pool.
+     */
+    @Bean
+    public AuthenticationManager authenticationManager(UserService userService,
+                                                       CachedUserDetailsService userDetailsService,
+                                                       PooledPasswordEncoder pooledPasswordEncoder) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(pooledPasswordEncoder);
+        provider.setUserDetailsService(userService::loadUserForLogin);
+        provider.setUserDetailsPasswordService(userDetailsService);
+        return new ProviderManager(provider);
+    }
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, org.springframework.security.core.userdetails.UserDetailsService userDetailsService,
+                                                   TokenRevocationService tokenRevocationService,
+                                                   @Value("${jwt.principal-mode:database}") PrincipalMode principalMode) throws Exception {
+        JwtAuthFilter jwtAuthFilter = new JwtAuthFilter(jwtUtil, userDetailsService, tokenRevocationService, principalMode);
+
+        http
+                .csrf(csrf -> csrf.disable())
+                .authorizeHttpRequests(auth -> auth
+                        // the async dispatch that ends a stream (e.g. the change feed) belongs to an already authorized request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers("/api/auth/**", "/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**", "/h2-console/**").permitAll()
+                        .anyRequest().authenticated()
+                )
+                .headers(headers -> headers.frameOptions(frame -> frame.disable()))
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+}
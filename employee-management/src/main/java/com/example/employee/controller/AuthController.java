@@ -4,6 +4,8 @@ import com.example.employee.dto.AuthRequest;
 import com.example.employee.dto.AuthResponse;
 import com.example.employee.model.User;
 import com.example.employee.security.JwtUtil;
+import com.example.employee.security.VersionedUser;
+import com.example.employee.service.TokenRevocationService;
 import com.example.employee.service.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,11 +21,14 @@ public class AuthController {
     private final UserService userService;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
 
-    public AuthController(UserService userService, AuthenticationManager authenticationManager, JwtUtil jwtUtil) {
+    public AuthController(UserService userService, AuthenticationManager authenticationManager, JwtUtil jwtUtil,
+                          TokenRevocationService tokenRevocationService) {
         this.userService = userService;
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @PostMapping("/register")
@@ -34,15 +39,20 @@ public class AuthController {
         if (req.getRole() != null && !req.getRole().isBlank()) {
             u.setRoles(Set.of(req.getRole()));
         }
+        // only the hash runs on the bounded hashing pool, see PooledPasswordEncoder
         User saved = userService.register(u);
         return ResponseEntity.ok(saved);
     }
 
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@RequestBody AuthRequest req) {
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(req.getUsername(), req.getPassword()));
-        var userDetails = userService.loadUserByUsername(req.getUsername());
-        var token = jwtUtil.generateToken(userDetails);
+        var authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(req.getUsername(), req.getPassword()));
+        // the authenticated principal is the user row the password was checked against; its token version is
+        // current even when this node has not yet reloaded a revoke made elsewhere
+        var user = (VersionedUser) authentication.getPrincipal();
+        tokenRevocationService.observe(user.getUsername(), user.getTokenVersion());
+        var token = jwtUtil.generateToken(user, user.getTokenVersion());
         return ResponseEntity.ok(new AuthResponse(token));
     }
 }
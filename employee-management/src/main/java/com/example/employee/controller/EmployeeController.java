@@ -0,0 +1,523 @@
+package com.example.employee.controller;
+
+import com.example.employee.dto.AnalyticsResult;
+import com.example.employee.dto.BulkCreateResult;
+import com.example.employee.dto.BulkMutationResult;
+import com.example.employee.dto.DepartmentAggregate;
+import com.example.employee.dto.EmployeeBulkMutation;
+import com.example.employee.dto.EmployeeChange;
+import com.example.employee.dto.EmployeeCursor;
+import com.example.employee.dto.EmployeeField;
+import com.example.employee.dto.EmployeePatch;
+import com.example.employee.dto.EmployeeSearchCriteria;
+import com.example.employee.dto.EmployeeSortKey;
+import com.example.employee.dto.EmployeeSuggestion;
+import com.example.employee.dto.KeysetPage;
+import com.example.employee.dto.MultiGetResult;
+import com.example.employee.dto.SnapshotFootprint;
+import com.example.employee.dto.SyncPage;
+import com.example.employee.dto.SyncWatermark;
+import com.example.employee.dto.VersionedListing;
+import com.example.employee.exception.PreconditionFailedException;
+import com.example.employee.model.Employee;
+import com.example.employee.service.DepartmentAggregateService;
+import com.example.employee.service.EmployeeAnalyticsService;
+import com.example.employee.service.EmployeeBulkService;
+import com.example.employee.service.EmployeeChangeFeed;
+import com.example.employee.service.EmployeeExportService;
+import com.example.employee.service.EmployeeImportService;
+import com.example.employee.service.ImportJob;
+import com.example.employee.service.EmployeeService;
+import com.example.employee.service.EmployeeSuggestIndex;
+import com.example.employee.service.EmployeeSyncService;
+import com.example.employee.service.EmployeeViewService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RestController
+@RequestMapping("/api/employees")
+public class EmployeeController {
+
+    private static final int MAX_SUGGESTIONS = 50;
+
+    private final EmployeeService service;
+    private final EmployeeViewService viewService;
+    private final EmployeeExportService exportService;
+    private final EmployeeBulkService bulkService;
+    private final EmployeeImportService importService;
+    private final EmployeeSuggestIndex suggestIndex;
+    private final DepartmentAggregateService aggregateService;
+    private final EmployeeAnalyticsService analyticsService;
+    private final EmployeeChangeFeed changeFeed;
+    private final EmployeeSyncService syncService;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxMultiGetIds;
+    private final int defaultSyncSize;
+    private final int maxSyncSize;
+
+    public EmployeeController(EmployeeService service, EmployeeViewService viewService,
+                              EmployeeExportService exportService, EmployeeBulkService bulkService,
+                              EmployeeImportService importService, EmployeeSuggestIndex suggestIndex,
+                              DepartmentAggregateService aggregateService, EmployeeAnalyticsService analyticsService,
+                              EmployeeChangeFeed changeFeed, EmployeeSyncService syncService,
+                              @Value("${employees.page.default-size:50}") int defaultPageSize,
+                              @Value("${employees.page.max-size:500}") int maxPageSize,
+                              @Value("${employees.multi-get.max-ids:1000}") int maxMultiGetIds,
+                              @Value("${employees.sync.page-size:1000}") int defaultSyncSize,
+                              @Value("${employees.sync.max-page-size:10000}") int maxSyncSize) {
+        this.service = service;
+        this.viewService = viewService;
+        this.exportService = exportService;
+        this.bulkService = bulkService;
+        this.importService = importService;
+        this.suggestIndex = suggestIndex;
+        this.aggregateService = aggregateService;
+        this.analyticsService = analyticsService;
+        this.changeFeed = changeFeed;
+        this.syncService = syncService;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxMultiGetIds = maxMultiGetIds;
+        this.defaultSyncSize = defaultSyncSize;
+        this.maxSyncSize = maxSyncSize;
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping
+    public ResponseEntity<Employee> create(@RequestBody Employee emp) {
+        Employee created = service.create(emp);
+        return ResponseEntity.created(URI.create("/api/employees/" + created.getId())).body(created);
+    }
+
+    /**
+     * Creates many employees in JDBC batches; 201 when every item was created, 207 with per-item results otherwise.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateResult> createBulk(@RequestBody List<Employee> employees) {
+        BulkCreateResult result = bulkService.createAll(employees);
+        return ResponseEntity.status(result.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(result);
+    }
+
+    /**
+     * Deletes the employees selected by id list and/or filter in one statement and returns the affected count.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bulk/delete")
+    public BulkMutationResult deleteBulk(@RequestBody EmployeeBulkMutation mutation) {
+        return bulkService.deleteAll(mutation);
+    }
+
+    /**
+     * Department reassignment and/or salary adjustment for the employees selected by id list and/or filter,
+     * applied in one statement.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PatchMapping("/bulk")
+    public BulkMutationResult updateBulk(@RequestBody EmployeeBulkMutation mutation) {
+        return bulkService.updateAll(mutation);
+    }
+
+    /**
+     * Spools the uploaded CSV to a temp file and imports it in the background; poll the Location for progress.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJob> importCsv(@RequestParam("file") MultipartFile file) throws IOException {
+        Path csv = Files.createTempFile("employee-import-", ".csv");
+        file.transferTo(csv);
+        return accepted(importService.submit(csv, file.getOriginalFilename()));
+    }
+
+    /**
+     * Same as the multipart variant for a raw {@code text/csv} body, which avoids the multipart size limits.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ImportJob> importCsvBody(HttpServletRequest request) throws IOException {
+        Path csv = Files.createTempFile("employee-import-", ".csv");
+        Files.copy(request.getInputStream(), csv, StandardCopyOption.REPLACE_EXISTING);
+        return accepted(importService.submit(csv, null));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/import/{jobId}")
+    public ImportJob importStatus(@PathVariable String jobId) {
+        return importService.getJob(jobId);
+    }
+
+    /**
+     * Listing with cursor (or offset) paging, versioned by an ETag read with the rows (see
+     * {@link EmployeeViewService#versioned}).
+     */
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    @GetMapping
+    public ResponseEntity<List<?>> list(@RequestParam(required = false) String cursor,
+                                        @RequestParam(required = false) Integer limit,
+                                        @RequestParam(defaultValue = "id") String sort,
+                                        @RequestParam(required = false) Integer page,
+                                        @RequestParam(defaultValue = "false") boolean count,
+                                        @RequestParam(required = false) String fields,
+                                        WebRequest request) {
+        String[] sortParts = sort.split(",");
+        EmployeeSortKey sortKey = EmployeeSortKey.fromProperty(sortParts[0].trim());
+        Sort.Direction direction = sortParts.length > 1 ? Sort.Direction.fromString(sortParts[1].trim()) : Sort.Direction.ASC;
+        int size = pageSize(limit);
+
+        // offset paging is kept as a fallback for small tables: ?page=N&limit=M
+        if (page != null) {
+            if (fields != null) {
+                throw new IllegalArgumentException("fields is only supported with cursor paging");
+            }
+            VersionedListing<Page<Employee>> listing = viewService.versioned(listingKey(request), request::checkNotModified,
+                    () -> service.listOffsetPage(sortKey, direction, Math.max(page, 0), size));
+            if (listing.notModified()) {
+                return null;
+            }
+            Page<Employee> result = listing.body();
+            List<String> links = new ArrayList<>();
+            if (result.hasNext()) {
+                links.add(link(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .replaceQueryParam("page", result.getNumber() + 1).toUriString(), "next"));
+            }
+            if (result.hasPrevious()) {
+                links.add(link(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .replaceQueryParam("page", result.getNumber() - 1).toUriString(), "prev"));
+            }
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(listing.etag())
+                    .header("X-Total-Count", String.valueOf(result.getTotalElements()));
+            if (!links.isEmpty()) {
+                response.header(HttpHeaders.LINK, String.join(", ", links));
+            }
+            return response.body(result.getContent());
+        }
+
+        EmployeeCursor after = cursor == null ? null : EmployeeCursor.decode(cursor);
+        VersionedListing<KeysetPage<?>> listing = keysetListing(EmployeeSearchCriteria.none(), sortKey, direction, after,
+                size, fields, request);
+        if (listing.notModified()) {
+            return null;
+        }
+        KeysetPage<?> result = listing.body();
+        ResponseEntity.BodyBuilder response = keysetResponse(result, size).eTag(listing.etag());
+        if (count) {
+            response.header("X-Total-Count-Estimate", String.valueOf(service.estimateCount()));
+        }
+        return response.body(result.getItems());
+    }
+
+    /**
+     * Server-sent events for every committed change, so clients can stop polling the listing. Reconnecting with
+     * {@code Last-Event-ID} replays what was missed; a {@code reset} event means the client must re-list. Changes
+     * of a row between two reads of the feed coalesce into one event (see {@link EmployeeChange}), so {@code created}
+     * and {@code updated} are both applied as an upsert.
+     */
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter changes(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changeFeed.subscribe(lastEventId);
+    }
+
+    /**
+     * Incremental sync: {@code ?since=<next from the previous call>} returns only what changed after it, deletions as
+     * ids. Without {@code since} it starts from the beginning. 410 Gone means the watermark is too old to be served.
+     */
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    @GetMapping("/sync")
+    public SyncPage sync(@RequestParam(required = false) String since,
+                         @RequestParam(required = false) Integer limit) {
+        int size = limit == null || limit <= 0 ? defaultSyncSize : Math.min(limit, maxSyncSize);
+        return syncService.changesSince(since == null ? null : SyncWatermark.decode(since), size);
+    }
+
+    /**
+     * Multi-get: {@code ?ids=1,2,3} (or repeated {@code ids}) resolves many employees in one request,
+     * in the requested order, listing the ids that do not exist.
+     */
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    @GetMapping(params = "ids")
+    public MultiGetResult getMany(@RequestParam List<Long> ids) {
+        return multiGet(ids);
+    }
+
+    /**
+     * Same as {@code GET ?ids=} with the ids as a JSON array body, for id lists too long for a URL.
+     */
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    @PostMapping("/multi-get")
+    public MultiGetResult getManyPost(@RequestBody List<Long> ids) {
+        return multiGet(ids);
+    }
+
+    /**
+     * Filtered, keyset-paginated search. Every filter is optional; {@code department} may be repeated for an IN list.
+     * {@code fields=id,name,...} selects only those columns. Versioned like {@link #list}.
+     */
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    @GetMapping("/search")
+    public ResponseEntity<List<?>> search(@RequestParam(required = false) List<String> department,
+                                          @RequestParam(required = false) Double minSalary,
+                                          @RequestParam(required = false) Double maxSalary,
+                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                                          @RequestParam(required = false) String name,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) Integer limit,
+                                          @RequestParam(defaultValue = "id") String sort,
+                                          @RequestParam(required = false) String fields,
+                                          WebRequest request) {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setDepartments(department);
+        criteria.setMinSalary(minSalary);
+        criteria.setMaxSalary(maxSalary);
+        criteria.setCreatedFrom(createdFrom);
+        criteria.setCreatedTo(createdTo);
+        criteria.setNamePrefix(name);
+
+        String[] sortParts = sort.split(",");
+        EmployeeSortKey sortKey = EmployeeSortKey.fromProperty(sortParts[0].trim());
+        Sort.Direction direction = sortParts.length > 1 ? Sort.Direction.fromString(sortParts[1].trim()) : Sort.Direction.ASC;
+        int size = pageSize(limit);
+
+        EmployeeCursor after = cursor == null ? null : EmployeeCursor.decode(cursor);
+        VersionedListing<KeysetPage<?>> listing = keysetListing(criteria, sortKey, direction, after, size, fields, request);
+        if (listing.notModified()) {
+            return null;
+        }
+        return keysetResponse(listing.body(), size).eTag(listing.etag()).body(listing.body().getItems());
+    }
+
+    private VersionedListing<KeysetPage<?>> keysetListing(EmployeeSearchCriteria criteria, EmployeeSortKey sortKey,
+                                                          Sort.Direction direction, EmployeeCursor after, int size,
+                                                          String fields, WebRequest request) {
+        return viewService.versioned(listingKey(request), request::checkNotModified, () -> fields == null
+                ? viewService.search(criteria, sortKey, direction, after, size)
+                : service.searchFields(criteria, sortKey, direction, after, size, EmployeeField.parse(fields)));
+    }
+
+    /**
+     * Type-ahead over names and emails, answered from the in-memory trigram index without touching the database.
+     */
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    @GetMapping("/suggest")
+    public List<EmployeeSuggestion> suggest(@RequestParam String q,
+                                            @RequestParam(defaultValue = "10") int limit,
+                                            @RequestParam(defaultValue = "prefix") String mode) {
+        EmployeeSuggestIndex.Mode suggestMode = EmployeeSuggestIndex.Mode.valueOf(mode.toUpperCase());
+        return suggestIndex.suggest(q, Math.min(limit, MAX_SUGGESTIONS), suggestMode);
+    }
+
+    /**
+     * Headcount and salary statistics per department from in-memory accumulators; percentiles are approximate.
+     */
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    @GetMapping("/aggregates")
+    public List<DepartmentAggregate> aggregates(@RequestParam(required = false) String department) {
+        return department == null ? aggregateService.getAll() : List.of(aggregateService.get(department));
+    }
+
+    /**
+     * Group-by, filter and top-K over the columnar analytics snapshot, which may lag writes by the refresh interval.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/analytics")
+    public AnalyticsResult analytics(@RequestParam(defaultValue = "department") String groupBy,
+                                     @RequestParam(defaultValue = "10000") double bandWidth,
+                                     @RequestParam(defaultValue = "10") int top,
+                                     @RequestParam(required = false) List<String> department,
+                                     @RequestParam(required = false) Double minSalary,
+                                     @RequestParam(required = false) Double maxSalary,
+                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setDepartments(department);
+        criteria.setMinSalary(minSalary);
+        criteria.setMaxSalary(maxSalary);
+        criteria.setCreatedFrom(createdFrom);
+        criteria.setCreatedTo(createdTo);
+        EmployeeAnalyticsService.GroupBy grouping = switch (groupBy) {
+            case "month", "createdMonth" -> EmployeeAnalyticsService.GroupBy.CREATED_MONTH;
+            case "salaryBand" -> EmployeeAnalyticsService.GroupBy.SALARY_BAND;
+            default -> EmployeeAnalyticsService.GroupBy.valueOf(groupBy.toUpperCase());
+        };
+        return analyticsService.query(criteria, grouping, bandWidth, top);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/analytics/footprint")
+    public SnapshotFootprint analyticsFootprint() {
+        return analyticsService.footprint();
+    }
+
+    /**
+     * Full-table export streamed as NDJSON or CSV; {@code copy=true} lets Postgres produce the CSV via COPY.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/export")
+    public void export(@RequestParam(defaultValue = "ndjson") String format,
+                       @RequestParam(defaultValue = "false") boolean copy,
+                       HttpServletResponse response) throws IOException {
+        EmployeeExportService.Format exportFormat = EmployeeExportService.Format.valueOf(format.toUpperCase());
+        boolean csv = exportFormat == EmployeeExportService.Format.CSV;
+        response.setContentType(csv ? "text/csv;charset=UTF-8" : "application/x-ndjson");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees." + (csv ? "csv" : "ndjson") + "\"");
+
+        if (csv && copy && exportService.supportsCopy()) {
+            exportService.copyCsv(response.getOutputStream());
+        } else {
+            exportService.export(exportFormat, response.getOutputStream());
+        }
+    }
+
+    /**
+     * Single employee with a strong ETag derived from its version; the entity normally comes from the
+     * second-level cache, so a matching If-None-Match is answered with 304 without a database round trip.
+     * With {@code fields=} only those columns are selected and the response is not conditional.
+     */
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    @GetMapping("/{id}")
+    public ResponseEntity<?> get(@PathVariable Long id, @RequestParam(required = false) String fields, WebRequest request) {
+        if (fields != null) {
+            Map<String, Object> sparse = service.findFieldsById(id, EmployeeField.parse(fields));
+            return ResponseEntity.ok(sparse);
+        }
+        Employee employee = service.findById(id);
+        String etag = etag(employee);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(employee);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/{id}")
+    public ResponseEntity<Employee> update(@PathVariable Long id, @RequestBody Employee emp,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Employee updated = service.update(id, emp, expectedVersion(id, ifMatch));
+        return ResponseEntity.ok().eTag(etag(updated)).body(updated);
+    }
+
+    /**
+     * Writes only the fields present in the body. With {@code If-Match} this is a single conditional UPDATE that
+     * never loads the entity and answers 204 with the new ETag (412 if the version moved on); without it the
+     * entity is loaded, patched and returned.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PatchMapping("/{id}")
+    public ResponseEntity<Employee> patch(@PathVariable Long id, @RequestBody EmployeePatch patch,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (patch.isEmpty()) {
+            throw new IllegalArgumentException("Nothing to update");
+        }
+        Long expectedVersion = expectedVersion(id, ifMatch);
+        if (expectedVersion == null) {
+            Employee patched = service.patch(id, patch);
+            return ResponseEntity.ok().eTag(etag(patched)).body(patched);
+        }
+        long version = service.patch(id, patch, expectedVersion);
+        return ResponseEntity.noContent().eTag("\"" + id + "-" + version + "\"").build();
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> delete(@PathVariable Long id) {
+        service.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private MultiGetResult multiGet(List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > maxMultiGetIds) {
+            throw new IllegalArgumentException("Between 1 and " + maxMultiGetIds + " ids are required");
+        }
+        if (ids.contains(null)) {
+            throw new IllegalArgumentException("ids must not contain null");
+        }
+        return service.findAllById(ids);
+    }
+
+    private int pageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    private static ResponseEntity.BodyBuilder keysetResponse(KeysetPage<?> result, int size) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (result.hasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", result.getNextCursor().encode())
+                    .replaceQueryParam("limit", size)
+                    .replaceQueryParam("count")
+                    .toUriString();
+            response.header(HttpHeaders.LINK, link(next, "next"));
+        }
+        return response;
+    }
+
+    /**
+     * Version demanded by an {@code If-Match} header, or null when there is none or it is {@code *}.
+     * Only a strong ETag of this very employee can match.
+     */
+    private static Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+            try {
+                return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // fall through: not one of our ETags
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not match the current ETag of employee " + id);
+    }
+
+    private static String etag(Employee employee) {
+        return "\"" + employee.getId() + "-" + employee.getVersion() + "\"";
+    }
+
+    // path plus parameters in a stable order, so equivalent listing requests share an ETag
+    private static String listingKey(WebRequest request) {
+        StringBuilder key = new StringBuilder(request.getDescription(false));
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) ->
+                key.append('&').append(name).append('=').append(String.join(",", values)));
+        return key.toString();
+    }
+
+    private static ResponseEntity<ImportJob> accepted(ImportJob job) {
+        return ResponseEntity.accepted().location(URI.create("/api/employees/import/" + job.getId())).body(job);
+    }
+
+    private static String link(String uri, String rel) {
+        return "<" + uri + ">; rel=\"" + rel + "\"";
+    }
+}
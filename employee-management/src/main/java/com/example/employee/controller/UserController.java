@@ -0,0 +1,24 @@
+package com.example.employee.controller;
+
+import com.example.employee.service.TokenRevocationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/users")
+public class UserController {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    public UserController(TokenRevocationService tokenRevocationService) {
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{username}/revoke-tokens")
+    public ResponseEntity<?> revokeTokens(@PathVariable String username) {
+        tokenRevocationService.revoke(username);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.employee.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Result of an analytics query over the columnar snapshot. Salary statistics only cover rows with a salary.
+ */
+public record AnalyticsResult(Instant snapshotLoadedAt, long snapshotRows, long matchedRows,
+                              List<Group> groups, List<TopEntry> top) {
+
+    public record Group(String key, long count, long salaryCount, double salarySum, Double salaryMean,
+                        Double salaryMin, Double salaryMax) {
+    }
+
+    public record TopEntry(long id, String department, double salary) {
+    }
+}
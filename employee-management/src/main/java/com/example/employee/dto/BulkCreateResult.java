@@ -0,0 +1,20 @@
+package com.example.employee.dto;
+
+import java.util.Comparator;
+import java.util.List;
+
+public class BulkCreateResult {
+    private final int created;
+    private final int failed;
+    private final List<BulkItemResult> items;
+
+    public BulkCreateResult(List<BulkItemResult> items) {
+        this.items = items.stream().sorted(Comparator.comparingInt(BulkItemResult::getIndex)).toList();
+        this.created = (int) items.stream().filter(i -> i.getStatus() == BulkItemResult.Status.CREATED).count();
+        this.failed = items.size() - created;
+    }
+
+    public int getCreated() { return created; }
+    public int getFailed() { return failed; }
+    public List<BulkItemResult> getItems() { return items; }
+}
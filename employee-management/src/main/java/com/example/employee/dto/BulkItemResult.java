@@ -0,0 +1,34 @@
+package com.example.employee.dto;
+
+/**
+ * Outcome of one element of a bulk request, identified by its position in the request.
+ */
+public class BulkItemResult {
+
+    public enum Status { CREATED, FAILED }
+
+    private final int index;
+    private final Status status;
+    private final Long id;
+    private final String error;
+
+    private BulkItemResult(int index, Status status, Long id, String error) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.error = error;
+    }
+
+    public static BulkItemResult created(int index, Long id) {
+        return new BulkItemResult(index, Status.CREATED, id, null);
+    }
+
+    public static BulkItemResult failed(int index, String error) {
+        return new BulkItemResult(index, Status.FAILED, null, error);
+    }
+
+    public int getIndex() { return index; }
+    public Status getStatus() { return status; }
+    public Long getId() { return id; }
+    public String getError() { return error; }
+}
@@ -0,0 +1,7 @@
+package com.example.employee.dto;
+
+/**
+ * Outcome of a set-based bulk operation: which operation ran and how many rows it changed.
+ */
+public record BulkMutationResult(String operation, long affected) {
+}
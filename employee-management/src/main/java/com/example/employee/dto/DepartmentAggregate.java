@@ -0,0 +1,11 @@
+package com.example.employee.dto;
+
+/**
+ * Salary statistics of one department. Salary fields cover only employees with a salary; percentiles are
+ * approximate, and min/max are exact only when {@code exactBounds} is true (a deletion of the current minimum or
+ * maximum leaves them approximate until the next reconciliation).
+ */
+public record DepartmentAggregate(String department, long headcount, long salaryCount, double salarySum,
+                                  Double salaryMean, Double salaryMin, Double salaryMax, boolean exactBounds,
+                                  Double p50, Double p90, Double p99) {
+}
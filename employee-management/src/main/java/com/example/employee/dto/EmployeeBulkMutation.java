@@ -0,0 +1,28 @@
+package com.example.employee.dto;
+
+import java.util.List;
+
+/**
+ * Set-based change to many employees. The target rows are those with an id in {@code ids} and/or matching
+ * {@code filter}; at least one of the two is required so a request can never touch the whole table by accident.
+ * For updates, {@code department} reassigns and the salary becomes {@code salary * (1 + salaryPercent / 100) + salaryAmount}.
+ */
+public class EmployeeBulkMutation {
+
+    private List<Long> ids;
+    private EmployeeSearchCriteria filter;
+    private String department;
+    private Double salaryPercent;
+    private Double salaryAmount;
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+    public EmployeeSearchCriteria getFilter() { return filter; }
+    public void setFilter(EmployeeSearchCriteria filter) { this.filter = filter; }
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+    public Double getSalaryPercent() { return salaryPercent; }
+    public void setSalaryPercent(Double salaryPercent) { this.salaryPercent = salaryPercent; }
+    public Double getSalaryAmount() { return salaryAmount; }
+    public void setSalaryAmount(Double salaryAmount) { this.salaryAmount = salaryAmount; }
+}
@@ -0,0 +1,25 @@
+package com.example.employee.dto;
+
+import com.example.employee.event.EmployeeSnapshot;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One entry of the employee change feed. {@code employee} is the committed state after a create or update, and the
+ * tombstone's state for a delete (its email has been freed). A {@code RESET} means events were missed and the client
+ * must re-list.
+ * <p>
+ * Changes are read from the table, one per row changed since the feed last looked, so the changes of a row in between
+ * coalesce into one carrying its latest state. The type follows that state: {@code CREATED} only while the row was
+ * never updated, so a row created and then updated between two reads arrives as a single {@code UPDATED}, and one
+ * created and deleted as a single {@code DELETED}. Clients apply {@code CREATED} and {@code UPDATED} alike as an
+ * upsert by id.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmployeeChange(Type type, Long id, EmployeeSnapshot employee) {
+
+    public enum Type { CREATED, UPDATED, DELETED, RESET }
+
+    public static EmployeeChange reset() {
+        return new EmployeeChange(Type.RESET, null, null);
+    }
+}
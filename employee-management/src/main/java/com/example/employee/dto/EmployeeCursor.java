@@ -0,0 +1,62 @@
+package com.example.employee.dto;
+
+import com.example.employee.model.Employee;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page: the sort it was produced with plus the sort-key values of that row.
+ * Exposed to clients only as an opaque URL-safe token.
+ */
+public class EmployeeCursor {
+
+    private static final String VERSION = "v1";
+
+    private final EmployeeSortKey sortKey;
+    private final Sort.Direction direction;
+    private final Long lastId;
+    private final LocalDateTime lastCreatedAt;
+
+    public EmployeeCursor(EmployeeSortKey sortKey, Sort.Direction direction, Long lastId, LocalDateTime lastCreatedAt) {
+        this.sortKey = sortKey;
+        this.direction = direction;
+        this.lastId = lastId;
+        this.lastCreatedAt = lastCreatedAt;
+    }
+
+    public static EmployeeCursor after(Employee last, EmployeeSortKey sortKey, Sort.Direction direction) {
+        return new EmployeeCursor(sortKey, direction, last.getId(), last.getCreatedAt());
+    }
+
+    public EmployeeSortKey getSortKey() { return sortKey; }
+    public Sort.Direction getDirection() { return direction; }
+    public Long getLastId() { return lastId; }
+    public LocalDateTime getLastCreatedAt() { return lastCreatedAt; }
+
+    public String encode() {
+        String raw = String.join("|", VERSION, sortKey.name(), direction.name(), String.valueOf(lastId),
+                lastCreatedAt == null ? "" : lastCreatedAt.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EmployeeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            EmployeeSortKey sortKey = EmployeeSortKey.valueOf(parts[1]);
+            LocalDateTime createdAt = parts[4].isEmpty() ? null : LocalDateTime.parse(parts[4]);
+            if (sortKey == EmployeeSortKey.CREATED_AT && createdAt == null) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new EmployeeCursor(sortKey, Sort.Direction.valueOf(parts[2]), Long.valueOf(parts[3]), createdAt);
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.employee.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Employee attributes a client can ask for with {@code fields=}. Only the requested columns are selected,
+ * as scalar tuples that are never attached to the persistence context.
+ */
+public enum EmployeeField {
+    ID("id"),
+    NAME("name"),
+    EMAIL("email"),
+    DEPARTMENT("department"),
+    SALARY("salary"),
+    CREATED_AT("createdAt"),
+    VERSION("version");
+
+    private final String property;
+
+    EmployeeField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() { return property; }
+
+    /**
+     * Parses a comma-separated field list, keeping the given order and dropping duplicates.
+     */
+    public static List<EmployeeField> parse(String fields) {
+        Set<EmployeeField> parsed = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                parsed.add(fromProperty(name.trim()));
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("fields must name at least one field");
+        }
+        return new ArrayList<>(parsed);
+    }
+
+    public static EmployeeField fromProperty(String property) {
+        for (EmployeeField field : values()) {
+            if (field.property.equalsIgnoreCase(property)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + property);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.employee.dto;
+
+/**
+ * Partial update of an employee: only the non-null fields are written, everything else is left as it is.
+ */
+public class EmployeePatch {
+
+    private String name;
+    private String email;
+    private String department;
+    private Double salary;
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+    public Double getSalary() { return salary; }
+    public void setSalary(Double salary) { this.salary = salary; }
+
+    public boolean isEmpty() {
+        return name == null && email == null && department == null && salary == null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.employee.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Optional filters for the employee search; unset fields do not constrain the result.
+ * Salary bounds are inclusive, the created-at range is half-open {@code [createdFrom, createdTo)}.
+ */
+public class EmployeeSearchCriteria {
+
+    private List<String> departments;
+    private Double minSalary;
+    private Double maxSalary;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+    private String namePrefix;
+
+    public static EmployeeSearchCriteria none() {
+        return new EmployeeSearchCriteria();
+    }
+
+    public List<String> getDepartments() { return departments; }
+    public void setDepartments(List<String> departments) { this.departments = departments; }
+    public Double getMinSalary() { return minSalary; }
+    public void setMinSalary(Double minSalary) { this.minSalary = minSalary; }
+    public Double getMaxSalary() { return maxSalary; }
+    public void setMaxSalary(Double maxSalary) { this.maxSalary = maxSalary; }
+    public LocalDateTime getCreatedFrom() { return createdFrom; }
+    public void setCreatedFrom(LocalDateTime createdFrom) { this.createdFrom = createdFrom; }
+    public LocalDateTime getCreatedTo() { return createdTo; }
+    public void setCreatedTo(LocalDateTime createdTo) { this.createdTo = createdTo; }
+    public String getNamePrefix() { return namePrefix; }
+    public void setNamePrefix(String namePrefix) { this.namePrefix = namePrefix; }
+
+    public boolean isEmpty() {
+        return (departments == null || departments.isEmpty()) && minSalary == null && maxSalary == null
+                && createdFrom == null && createdTo == null && (namePrefix == null || namePrefix.isEmpty());
+    }
+
+    /**
+     * Rejects ranges that can never match instead of silently returning nothing.
+     */
+    public void validate() {
+        if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+            throw new IllegalArgumentException("minSalary must not be greater than maxSalary");
+        }
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.employee.dto;
+
+/**
+ * Columns the employee listing can be keyset-paginated on. Every key is backed by an index
+ * and tie-broken by {@code id}, so page boundaries are stable.
+ */
+public enum EmployeeSortKey {
+    ID("id"),
+    CREATED_AT("createdAt");
+
+    private final String property;
+
+    EmployeeSortKey(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() { return property; }
+
+    public static EmployeeSortKey fromProperty(String property) {
+        for (EmployeeSortKey key : values()) {
+            if (key.property.equalsIgnoreCase(property)) {
+                return key;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort property: " + property);
+    }
+}
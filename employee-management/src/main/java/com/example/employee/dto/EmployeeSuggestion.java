@@ -0,0 +1,7 @@
+package com.example.employee.dto;
+
+/**
+ * One type-ahead hit; higher scores rank first.
+ */
+public record EmployeeSuggestion(Long id, String name, String email, double score) {
+}
@@ -0,0 +1,10 @@
+package com.example.employee.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable read model of an employee, mapped straight from a JDBC row. Serializes like {@code Employee}.
+ */
+public record EmployeeView(Long id, String name, String email, String department, Double salary,
+                           LocalDateTime createdAt, Long version, LocalDateTime updatedAt) {
+}
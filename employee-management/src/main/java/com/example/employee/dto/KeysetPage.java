@@ -0,0 +1,20 @@
+package com.example.employee.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing; {@code nextCursor} is null on the last page.
+ */
+public class KeysetPage<T> {
+    private final List<T> items;
+    private final EmployeeCursor nextCursor;
+
+    public KeysetPage(List<T> items, EmployeeCursor nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() { return items; }
+    public EmployeeCursor getNextCursor() { return nextCursor; }
+    public boolean hasNext() { return nextCursor != null; }
+}
@@ -0,0 +1,11 @@
+package com.example.employee.dto;
+
+import com.example.employee.model.Employee;
+
+import java.util.List;
+
+/**
+ * Employees found for a multi-get, in the order their ids were requested, plus the ids that do not exist.
+ */
+public record MultiGetResult(List<Employee> items, List<Long> missing) {
+}
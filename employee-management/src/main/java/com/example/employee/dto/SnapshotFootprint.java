@@ -0,0 +1,8 @@
+package com.example.employee.dto;
+
+/**
+ * Heap used by the columnar snapshot next to an estimate for the same rows held as a {@code List<Employee>}
+ * (64-bit JVM with compressed oops, Latin-1 compact strings, one String instance per row and column as JDBC yields them).
+ */
+public record SnapshotFootprint(long rows, long columnarBytes, long entityListBytesEstimate, double ratio) {
+}
@@ -0,0 +1,11 @@
+package com.example.employee.dto;
+
+import java.util.List;
+
+/**
+ * One step of the incremental sync: employees created or changed since the previous watermark, ids deleted since
+ * then, and the watermark to pass as {@code since} next time. {@code hasMore} means the next call returns more
+ * right away; otherwise the client is up to date until the next change commits.
+ */
+public record SyncPage(List<EmployeeView> changed, List<Long> deleted, String next, boolean hasMore) {
+}
@@ -0,0 +1,40 @@
+package com.example.employee.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position in the incremental sync: everything up to and including ({@code changeSeq}, {@code lastId}) in
+ * {@code (change_seq, id)} order has been delivered. {@code issuedAt} is when the client was last up to date, which
+ * only decides whether tombstones it has not seen may have been purged. Exposed to clients only as an opaque URL-safe
+ * token.
+ */
+public record SyncWatermark(long changeSeq, long lastId, LocalDateTime issuedAt) implements Comparable<SyncWatermark> {
+
+    private static final String VERSION = "v2";
+
+    public String encode() {
+        String raw = String.join("|", VERSION, String.valueOf(changeSeq), String.valueOf(lastId), issuedAt.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncWatermark decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid sync watermark");
+            }
+            return new SyncWatermark(Long.parseLong(parts[1]), Long.parseLong(parts[2]), LocalDateTime.parse(parts[3]));
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid sync watermark", e);
+        }
+    }
+
+    @Override
+    public int compareTo(SyncWatermark other) {
+        int bySeq = Long.compare(changeSeq, other.changeSeq);
+        return bySeq != 0 ? bySeq : Long.compare(lastId, other.lastId);
+    }
+}
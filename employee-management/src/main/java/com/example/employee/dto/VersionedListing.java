@@ -0,0 +1,11 @@
+package com.example.employee.dto;
+
+/**
+ * A listing read together with its ETag; {@code body} is null when the client's copy was still current.
+ */
+public record VersionedListing<T>(String etag, T body) {
+
+    public boolean notModified() {
+        return body == null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.employee.event;
+
+/**
+ * Published when a single employee is created, updated or deleted. {@code before} is null for creations and
+ * {@code after} is null for deletions; a listener receiving an update with a null side must treat that state as unknown.
+ */
+public record EmployeeChangedEvent(Type type, Long id, EmployeeSnapshot before, EmployeeSnapshot after) {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    public static EmployeeChangedEvent created(EmployeeSnapshot after) {
+        return new EmployeeChangedEvent(Type.CREATED, after.id(), null, after);
+    }
+
+    public static EmployeeChangedEvent updated(EmployeeSnapshot before, EmployeeSnapshot after) {
+        return new EmployeeChangedEvent(Type.UPDATED, after.id(), before, after);
+    }
+
+    /**
+     * Update applied without loading the entity, so neither side is known.
+     */
+    public static EmployeeChangedEvent updated(Long id) {
+        return new EmployeeChangedEvent(Type.UPDATED, id, null, null);
+    }
+
+    public static EmployeeChangedEvent deleted(EmployeeSnapshot before) {
+        return new EmployeeChangedEvent(Type.DELETED, before.id(), before, null);
+    }
+}
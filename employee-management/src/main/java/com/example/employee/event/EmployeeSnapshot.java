@@ -0,0 +1,17 @@
+package com.example.employee.event;
+
+import com.example.employee.model.Employee;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of an employee's state at the time an event was published; entities must not leak into listeners.
+ */
+public record EmployeeSnapshot(Long id, String name, String email, String department, Double salary,
+                               LocalDateTime createdAt) {
+
+    public static EmployeeSnapshot of(Employee employee) {
+        return new EmployeeSnapshot(employee.getId(), employee.getName(), employee.getEmail(),
+                employee.getDepartment(), employee.getSalary(), employee.getCreatedAt());
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.employee.event;
+
+/**
+ * Published after a set-based change that touched many rows without per-row events (e.g. a COPY import).
+ * Listeners holding derived state should reload it from the database; the changed rows carry the transaction's
+ * {@code change_seq}, so the incremental sync delivers them.
+ */
+public record EmployeesBulkChangedEvent(String operation, long affectedRows) {
+}
@@ -0,0 +1,13 @@
+package com.example.employee.event;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event as delivered to an outbox sink. Delivery is at least once, so consumers must tolerate seeing the
+ * same {@code id} twice; {@code payload} is the JSON of the originating application event.
+ */
+public record OutboxMessage(Long id, String aggregateType, String aggregateId, String type,
+                            @JsonRawValue String payload, LocalDateTime createdAt) {
+}
@@ -0,0 +1,7 @@
+package com.example.employee.event;
+
+/**
+ * Published whenever a user's credentials, roles or token version change, so anything caching the user can drop it.
+ */
+public record UserChangedEvent(String username) {
+}
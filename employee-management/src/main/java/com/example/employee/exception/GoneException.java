@@ -0,0 +1,11 @@
+package com.example.employee.exception;
+
+/**
+ * Thrown when the requested state is no longer available, e.g. a sync watermark older than the tombstone retention.
+ */
+public class GoneException extends RuntimeException {
+
+    public GoneException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.employee.exception;
+
+/**
+ * Thrown when an {@code If-Match} precondition does not hold because the resource was changed in the meantime.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.employee.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.UpdateTimestamp;
+import java.time.LocalDateTime;
+
+@Entity
+@Cacheable
+@DynamicUpdate
+// soft-deleted rows stay behind as tombstones for the incremental sync; every entity query skips them
+@SQLRestriction("deleted_at is null")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employees")
+@Table(schema = "empmgmt", name = "employees", indexes = {
+        @Index(name = "idx_employees_department", columnList = "department"),
+        @Index(name = "idx_employees_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_employees_change_seq", columnList = "change_seq, id")
+})
+public class Employee {
+    // pooled sequence: one nextval hands out a block of 50 ids, and unlike IDENTITY it keeps JDBC insert batching on
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", schema = "empmgmt", sequenceName = "employees_id_seq", allocationSize = 50)
+    private Long id;
+
+    private String name;
+
+    @Column(unique = true)
+    private String email;
+
+    private String department;
+
+    private Double salary;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // optimistic-lock version, bumped by Hibernate on every update; also the basis of the resource ETag
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    // set on every write, set-based ones included
+    @UpdateTimestamp
+    @ColumnDefault("current_timestamp")
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime updatedAt;
+
+    // employee_change_clock value of the transaction that last wrote the row, stamped just before it commits; the
+    // incremental sync pages by (change_seq, id)
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    @JsonIgnore
+    private long changeSeq;
+
+    // tombstone marker, purged after employees.sync.tombstone-retention
+    @JsonIgnore
+    private LocalDateTime deletedAt;
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+    public Double getSalary() { return salary; }
+    public void setSalary(Double salary) { this.salary = salary; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    public long getChangeSeq() { return changeSeq; }
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(LocalDateTime deletedAt) { this.deletedAt = deletedAt; }
+}
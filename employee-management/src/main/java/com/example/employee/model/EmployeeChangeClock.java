@@ -0,0 +1,24 @@
+package com.example.employee.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Single row counting the transactions that changed the employee table; maintained with plain SQL by
+ * {@link com.example.employee.service.EmployeeCollectionVersion} and mapped only so the schema is generated with the rest.
+ */
+@Entity
+@Table(schema = "empmgmt", name = "employee_change_clock")
+public class EmployeeChangeClock {
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private long seq;
+
+    protected EmployeeChangeClock() {
+    }
+}
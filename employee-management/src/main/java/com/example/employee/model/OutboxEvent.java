@@ -0,0 +1,76 @@
+package com.example.employee.model;
+
+import com.example.employee.event.OutboxMessage;
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event recorded in the transaction of the change it describes, waiting to be handed to the outbox sink.
+ * Rows are deleted once delivered; a row whose {@code availableAt} is null ran out of attempts and stays for inspection.
+ */
+@Entity
+@Table(schema = "empmgmt", name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_available_at", columnList = "available_at, id")
+})
+public class OutboxEvent {
+    // pooled like the employee ids, so the events of a bulk insert are batched along with the rows
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", schema = "empmgmt", sequenceName = "outbox_events_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String aggregateType;
+
+    private String aggregateId;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, length = 65535)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // next time the dispatcher may claim the row; pushed back after a failed delivery
+    private LocalDateTime availableAt;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    protected OutboxEvent() {
+    }
+
+    public OutboxEvent(String aggregateType, String aggregateId, String eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+        this.availableAt = createdAt;
+    }
+
+    public OutboxMessage toMessage() {
+        return new OutboxMessage(id, aggregateType, aggregateId, eventType, payload, createdAt);
+    }
+
+    public Long getId() { return id; }
+    public String getAggregateType() { return aggregateType; }
+    public String getAggregateId() { return aggregateId; }
+    public String getEventType() { return eventType; }
+    public String getPayload() { return payload; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getAvailableAt() { return availableAt; }
+    public void setAvailableAt(LocalDateTime availableAt) { this.availableAt = availableAt; }
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+}
@@ -0,0 +1,45 @@
+package com.example.employee.repository;
+
+import com.example.employee.dto.EmployeePatch;
+import com.example.employee.event.EmployeeSnapshot;
+import com.example.employee.model.Employee;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Cheap row count: the planner statistic on Postgres, an exact count elsewhere.
+     */
+    long estimateCount();
+
+    /**
+     * Selects only {@code properties} of the matching rows as scalar tuples, one ordered map per row.
+     * Nothing is hydrated into entities, so the persistence context stays empty.
+     */
+    List<Map<String, Object>> findProperties(Specification<Employee> spec, Sort sort, int limit, Collection<String> properties);
+
+    /**
+     * Loads the employees with the given ids, positionally aligned with {@code ids} (null where missing).
+     * The second-level cache is consulted first and only the misses are fetched, with chunked {@code IN} queries.
+     */
+    List<Employee> findAllByIdInOrder(List<Long> ids);
+
+    /**
+     * Applies the non-null fields of {@code patch} and bumps the version in one conditional UPDATE, without loading
+     * the entity, and returns the row's state from before the update. Empty when the employee is missing or its
+     * version has moved on.
+     */
+    Optional<EmployeeSnapshot> patchIfVersion(Long id, long expectedVersion, EmployeePatch patch);
+
+    /**
+     * Turns the employee into a tombstone: marks it deleted, bumps {@code updated_at} and the version, and frees
+     * its email. Returns 0 when there is no live employee with that id.
+     */
+    int softDelete(Long id);
+}
@@ -0,0 +1,194 @@
+package com.example.employee.repository;
+
+import com.example.employee.dto.EmployeePatch;
+import com.example.employee.event.EmployeeSnapshot;
+import com.example.employee.model.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+class EmployeeRepositoryImpl implements EmployeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${employees.multi-get.batch-size:500}")
+    private int multiGetBatchSize;
+
+    @Override
+    public long estimateCount() {
+        if (isPostgres()) {
+            Number estimate = (Number) entityManager
+                    .createNativeQuery("select reltuples from pg_class where oid = 'empmgmt.employees'::regclass")
+                    .getSingleResult();
+            // reltuples is -1 until the table has been analyzed at least once
+            if (estimate != null && estimate.longValue() >= 0) {
+                return estimate.longValue();
+            }
+        }
+        return entityManager.createQuery("select count(e) from Employee e", Long.class).getSingleResult();
+    }
+
+    @Override
+    public List<Map<String, Object>> findProperties(Specification<Employee> spec, Sort sort, int limit,
+                                                    Collection<String> properties) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        List<Selection<?>> selections = new ArrayList<>(properties.size());
+        for (String property : properties) {
+            selections.add(root.get(property).alias(property));
+        }
+        query.multiselect(selections);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        List<Tuple> tuples = entityManager.createQuery(query).setMaxResults(limit).getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (TupleElement<?> element : tuple.getElements()) {
+                row.put(element.getAlias(), tuple.get(element));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Override
+    public List<Employee> findAllByIdInOrder(List<Long> ids) {
+        Session session = entityManager.unwrap(Session.class);
+        // passed explicitly: without a cache mode the multi-load skips the second-level cache altogether
+        return session.byMultipleIds(Employee.class)
+                .with(session.getCacheMode())
+                .withBatchSize(multiGetBatchSize)
+                .enableOrderedReturn(true)
+                .multiLoad(ids);
+    }
+
+    @Override
+    public Optional<EmployeeSnapshot> patchIfVersion(Long id, long expectedVersion, EmployeePatch patch) {
+        List<String> assignments = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        if (patch.getName() != null) {
+            assignments.add("name = ?");
+            values.add(patch.getName());
+        }
+        if (patch.getEmail() != null) {
+            assignments.add("email = ?");
+            values.add(patch.getEmail());
+        }
+        if (patch.getDepartment() != null) {
+            assignments.add("department = ?");
+            values.add(patch.getDepartment());
+        }
+        if (patch.getSalary() != null) {
+            assignments.add("salary = ?");
+            values.add(patch.getSalary());
+        }
+        assignments.add("updated_at = ?");
+        values.add(LocalDateTime.now());
+        assignments.add("version = version + 1");
+        values.add(id);
+        values.add(expectedVersion);
+
+        if (isPostgres()) {
+            // the locked sub-select still sees the old row, so the UPDATE can return the state it replaced
+            List<?> rows = rowQuery("update empmgmt.employees e set " + String.join(", ", assignments)
+                    + " from (select id, name, email, department, salary, created_at from empmgmt.employees"
+                    + " where id = ? and version = ? and deleted_at is null for update) old where e.id = old.id"
+                    + " returning old.id, old.name, old.email, old.department, old.salary, old.created_at", values)
+                    .getResultList();
+            if (rows.isEmpty()) {
+                return Optional.empty();
+            }
+            evict(id);
+            return Optional.of(snapshot((Object[]) rows.get(0)));
+        }
+        List<?> rows = rowQuery("select id, name, email, department, salary, created_at from empmgmt.employees"
+                + " where id = ? and version = ? and deleted_at is null for update", List.of(id, expectedVersion))
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        executeRowUpdate(id, "update empmgmt.employees set " + String.join(", ", assignments)
+                + " where id = ? and version = ? and deleted_at is null", values);
+        return Optional.of(snapshot((Object[]) rows.get(0)));
+    }
+
+    @Override
+    public int softDelete(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        // the email is released so it can be reused; a tombstone only needs its id and timestamps
+        return executeRowUpdate(id, "update empmgmt.employees set deleted_at = ?, updated_at = ?, email = null, "
+                + "version = version + 1 where id = ? and deleted_at is null", List.of(now, now, id));
+    }
+
+    private int executeRowUpdate(Long id, String sql, List<Object> values) {
+        int updated = nativeQuery(sql, values).executeUpdate();
+        if (updated > 0) {
+            evict(id);
+        }
+        return updated;
+    }
+
+    private NativeQuery<?> nativeQuery(String sql, List<Object> values) {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        for (int i = 0; i < values.size(); i++) {
+            query.setParameter(i + 1, values.get(i));
+        }
+        // without a query space Hibernate would clear every second-level cache region after a native update;
+        // an empty one suppresses that and only the changed row is evicted
+        query.addSynchronizedQuerySpace("");
+        return query;
+    }
+
+    private NativeQuery<?> rowQuery(String sql, List<Object> values) {
+        return nativeQuery(sql, values)
+                .addScalar("id", Long.class)
+                .addScalar("name", String.class)
+                .addScalar("email", String.class)
+                .addScalar("department", String.class)
+                .addScalar("salary", Double.class)
+                .addScalar("created_at", LocalDateTime.class);
+    }
+
+    private static EmployeeSnapshot snapshot(Object[] row) {
+        return new EmployeeSnapshot((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                (Double) row[4], (LocalDateTime) row[5]);
+    }
+
+    private void evict(Long id) {
+        entityManager.getEntityManagerFactory().getCache().evict(Employee.class, id);
+    }
+
+    private boolean isPostgres() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.employee.repository;
+
+import com.example.employee.dto.EmployeeCursor;
+import com.example.employee.dto.EmployeeSearchCriteria;
+import com.example.employee.model.Employee;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Reusable predicates over {@link Employee}, written so the generated SQL can use the table's indexes.
+ */
+public final class EmployeeSpecifications {
+
+    private EmployeeSpecifications() {
+    }
+
+    /**
+     * Rows strictly after the cursor position in its sort order, i.e. the keyset seek predicate
+     * {@code (sortKey, id) > (lastValue, lastId)} expanded into plain comparisons.
+     */
+    public static Specification<Employee> after(EmployeeCursor cursor) {
+        boolean asc = cursor.getDirection() == Sort.Direction.ASC;
+        return switch (cursor.getSortKey()) {
+            case ID -> (root, query, cb) -> asc
+                    ? cb.greaterThan(root.get("id"), cursor.getLastId())
+                    : cb.lessThan(root.get("id"), cursor.getLastId());
+            case CREATED_AT -> (root, query, cb) -> {
+                LocalDateTime last = cursor.getLastCreatedAt();
+                var createdAt = root.<LocalDateTime>get("createdAt");
+                var id = root.<Long>get("id");
+                return asc
+                        ? cb.or(cb.greaterThan(createdAt, last),
+                                cb.and(cb.equal(createdAt, last), cb.greaterThan(id, cursor.getLastId())))
+                        : cb.or(cb.lessThan(createdAt, last),
+                                cb.and(cb.equal(createdAt, last), cb.lessThan(id, cursor.getLastId())));
+            };
+        };
+    }
+
+    /**
+     * Conjunction of every filter set in {@code criteria}. Only the set filters become SQL predicates, so each
+     * combination maps to one stable query shape that Hibernate can cache the plan for.
+     */
+    public static Specification<Employee> matching(EmployeeSearchCriteria criteria) {
+        Specification<Employee> spec = Specification.where(null);
+        if (criteria.getDepartments() != null && !criteria.getDepartments().isEmpty()) {
+            spec = spec.and(departmentIn(criteria.getDepartments()));
+        }
+        if (criteria.getMinSalary() != null || criteria.getMaxSalary() != null) {
+            spec = spec.and(salaryBetween(criteria.getMinSalary(), criteria.getMaxSalary()));
+        }
+        if (criteria.getCreatedFrom() != null || criteria.getCreatedTo() != null) {
+            spec = spec.and(createdBetween(criteria.getCreatedFrom(), criteria.getCreatedTo()));
+        }
+        if (criteria.getNamePrefix() != null && !criteria.getNamePrefix().isEmpty()) {
+            spec = spec.and(nameStartsWith(criteria.getNamePrefix()));
+        }
+        return spec;
+    }
+
+    public static Specification<Employee> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Plain equality for a single department so the planner sees the same predicate as a hand-written query.
+     */
+    public static Specification<Employee> departmentIn(Collection<String> departments) {
+        if (departments.size() == 1) {
+            String department = departments.iterator().next();
+            return (root, query, cb) -> cb.equal(root.get("department"), department);
+        }
+        return (root, query, cb) -> root.get("department").in(departments);
+    }
+
+    /**
+     * Inclusive salary range; either bound may be null.
+     */
+    public static Specification<Employee> salaryBetween(Double min, Double max) {
+        return (root, query, cb) -> {
+            var salary = root.<Double>get("salary");
+            if (min != null && max != null) {
+                return cb.between(salary, min, max);
+            }
+            return min != null ? cb.greaterThanOrEqualTo(salary, min) : cb.lessThanOrEqualTo(salary, max);
+        };
+    }
+
+    /**
+     * Half-open range {@code [from, to)}; either bound may be null.
+     */
+    public static Specification<Employee> createdBetween(LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> {
+            var createdAt = root.<LocalDateTime>get("createdAt");
+            if (from != null && to != null) {
+                return cb.and(cb.greaterThanOrEqualTo(createdAt, from), cb.lessThan(createdAt, to));
+            }
+            return from != null ? cb.greaterThanOrEqualTo(createdAt, from) : cb.lessThan(createdAt, to);
+        };
+    }
+
+    /**
+     * Case-sensitive {@code LIKE 'prefix%'}: a left-anchored pattern is the only LIKE form a b-tree index can serve.
+     * Wildcards in the input are escaped so they match literally.
+     */
+    public static Specification<Employee> nameStartsWith(String prefix) {
+        String pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(root.get("name"), pattern, '\\');
+    }
+}
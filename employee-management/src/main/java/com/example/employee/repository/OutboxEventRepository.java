@@ -0,0 +1,29 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks up to {@code limit} events that are due, oldest first, until the end of the transaction. A lock timeout
+     * of -2 is Hibernate's SKIP LOCKED: rows claimed by another dispatcher are passed over instead of waited for.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.availableAt <= :now order by e.availableAt, e.id")
+    List<OutboxEvent> claimDue(@Param("now") LocalDateTime now, Limit limit);
+
+    @Query("select count(e) from OutboxEvent e where e.availableAt is null")
+    long countDeadLettered();
+}
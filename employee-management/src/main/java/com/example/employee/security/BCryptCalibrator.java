@@ -0,0 +1,41 @@
+package com.example.employee.security;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+
+/**
+ * Picks the highest BCrypt strength whose hashing time fits a latency budget on the current hardware.
+ * Each strength step doubles the work, so one measurement at the minimum strength is enough to extrapolate.
+ */
+public final class BCryptCalibrator {
+
+    private static final int SAMPLES = 3;
+
+    private BCryptCalibrator() {
+    }
+
+    public static int calibrate(Duration budget, int minStrength, int maxStrength) {
+        return strengthFor(budget, measure(minStrength), minStrength, maxStrength);
+    }
+
+    static int strengthFor(Duration budget, long nanosAtMinStrength, int minStrength, int maxStrength) {
+        int strength = minStrength;
+        long nanos = nanosAtMinStrength;
+        while (strength < maxStrength && nanos * 2 <= budget.toNanos()) {
+            strength++;
+            nanos *= 2;
+        }
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibration-password", BCrypt.gensalt(strength));
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
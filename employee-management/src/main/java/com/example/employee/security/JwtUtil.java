@@ -0,0 +1,118 @@
+package com.example.employee.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class JwtUtil {
+
+    private final Key key;
+    private final long jwtExpirationMs;
+    // JwtParser is immutable and thread-safe, so one instance serves every request
+    private final JwtParser parser;
+    private final VerifiedTokenCache tokenCache;
+
+    public JwtUtil(String base64Secret, long jwtExpirationMs) {
+        this(base64Secret, jwtExpirationMs, new VerifiedTokenCache(0));
+    }
+
+    @Autowired
+    public JwtUtil(@Value("${jwt.secret}") String base64Secret,
+                   @Value("${jwt.expiration-ms}") long jwtExpirationMs,
+                   VerifiedTokenCache tokenCache) {
+        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.tokenCache = tokenCache;
+    }
+
+    public String generateToken(UserDetails userDetails) {
+        return generateToken(userDetails, 0);
+    }
+
+    public String generateToken(UserDetails userDetails, int tokenVersion) {
+        var roles = userDetails.getAuthorities().stream()
+                .map(a -> a.getAuthority())
+                .collect(Collectors.joining(","));
+
+        return Jwts.builder()
+                .setSubject(userDetails.getUsername())
+                .claim("roles", roles)
+                .claim("ver", tokenVersion)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public String extractUsername(String token) {
+        return getClaims(token).getSubject();
+    }
+
+	public boolean validateToken(String token, UserDetails userDetails) {
+		boolean isValid = false;
+		try {
+			isValid = validateClaims(getClaims(token), userDetails);
+		} catch (JwtException | IllegalArgumentException e) {
+			System.err.println("Error in getClaims: " + e);
+		}
+
+		return isValid;
+
+	}
+
+    /**
+     * Checks already verified claims against the user, so callers that parsed the token once
+     * do not pay for a second signature verification.
+     */
+    public boolean validateClaims(Claims claims, UserDetails userDetails) {
+        return userDetails.getUsername().equals(claims.getSubject()) && !isTokenExpired(claims);
+    }
+
+    /**
+     * Verifies the signature and returns the token claims, served from the verified-token cache
+     * when the same token was seen before.
+     */
+	public Claims getClaims(String token) {
+		if (token == null || token.isBlank()) {
+			throw new IllegalArgumentException("JWT String argument cannot be null or empty.");
+		}
+		return tokenCache.get(token, t -> parser.parseClaimsJws(t).getBody());
+	}
+
+    public List<GrantedAuthority> extractAuthorities(Claims claims) {
+        String roles = claims.get("roles", String.class);
+        if (roles == null || roles.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(roles.split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+    }
+
+    public int extractTokenVersion(Claims claims) {
+        Integer version = claims.get("ver", Integer.class);
+        return version == null ? 0 : version;
+    }
+
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.employee.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs the hashing of a delegate encoder on the {@link PasswordHashingExecutor} pool. Only {@link #encode} and
+ * {@link #matches} are handed over: the user lookup and the save around them stay on the caller's thread, so a
+ * hashing slot never waits on the database and no connection is held while a hash is computed.
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // reads the strength from the hash prefix, no hashing involved
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
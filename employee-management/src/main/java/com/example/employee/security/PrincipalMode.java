@@ -0,0 +1,11 @@
+package com.example.employee.security;
+
+/**
+ * How {@link JwtAuthFilter} builds the authenticated principal.
+ */
+public enum PrincipalMode {
+    /** Load the user through the {@code UserDetailsService} on every request. */
+    DATABASE,
+    /** Rebuild the principal from the verified subject and roles claims, without touching the database. */
+    STATELESS
+}
@@ -0,0 +1,29 @@
+package com.example.employee.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * A {@link User} that also carries the token version read with it, so a token issued for it is stamped with the
+ * version of the same row the login was checked against.
+ */
+public class VersionedUser extends User {
+
+    private final int tokenVersion;
+
+    public VersionedUser(String username, String password, Collection<? extends GrantedAuthority> authorities,
+                         int tokenVersion) {
+        super(username, password, authorities);
+        this.tokenVersion = tokenVersion;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public VersionedUser withPassword(String password) {
+        return new VersionedUser(getUsername(), password, getAuthorities(), tokenVersion);
+    }
+}
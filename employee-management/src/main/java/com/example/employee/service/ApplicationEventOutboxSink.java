@@ -0,0 +1,28 @@
+package com.example.employee.service;
+
+import com.example.employee.event.OutboxMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default sink: republishes each message as an application event to in-process {@code @EventListener}s of
+ * {@link OutboxMessage}. A listener that throws fails the batch, which is then retried.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "in-jvm", matchIfMissing = true)
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApplicationEventOutboxSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        batch.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.employee.service;
+
+import com.example.employee.event.UserChangedEvent;
+import com.example.employee.security.VersionedUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Size- and TTL-bounded cache in front of {@link UserService#loadUserByUsername}.
+ * Entries are dropped as soon as a {@link UserChangedEvent} is published for the user.
+ * Also receives password upgrades from the authentication provider when the BCrypt strength was raised.
+ */
+@Service
+public class CachedUserDetailsService implements UserDetailsService, UserDetailsPasswordService, MeterBinder {
+
+    private final UserService userService;
+    private final Cache<String, UserDetails> cache;
+
+    public CachedUserDetailsService(UserService userService,
+                                    @Value("${users.cache.max-size:50000}") long maxSize,
+                                    @Value("${users.cache.ttl:10m}") Duration ttl) {
+        this.userService = userService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserDetails cached = cache.get(username, userService::loadUserByUsername);
+        // hand out a copy: the authentication manager erases credentials on the instance it receives
+        return User.withUserDetails(cached).build();
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userService.updatePassword(user.getUsername(), newPassword);
+        // a login's user keeps its token version, which the issued token is stamped with
+        if (user instanceof VersionedUser versioned) {
+            return versioned.withPassword(newPassword);
+        }
+        return User.withUserDetails(user).password(newPassword).build();
+    }
+
+    // after commit: invalidating earlier would let a concurrent load re-cache the state being replaced
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        cache.invalidate(event.username());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "users.details");
+    }
+}
@@ -0,0 +1,325 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.DepartmentAggregate;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.event.EmployeeSnapshot;
+import com.example.employee.event.EmployeesBulkChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-department headcount and salary statistics kept in memory and updated in O(1) from employee change events.
+ * <p>
+ * Percentiles come from a pair of {@link KllSketch}es per department, one for inserted and one for removed salaries;
+ * the net rank of a value is the difference of the two ranks. A periodic {@code GROUP BY} reconciliation resets the
+ * exact moments, and re-scans a department's salaries when its counts drifted or its removal sketch has grown large.
+ * Events that land while a reconciliation is running may be overwritten by it; the next run corrects them.
+ */
+@Service
+public class DepartmentAggregateService {
+
+    private static final String NO_DEPARTMENT = "";
+    private static final String SELECT_SALARIES = "select department, salary from empmgmt.employees where deleted_at is null";
+    private static final String GROUP_BY_DEPARTMENT = "select department, count(*), count(salary), sum(salary), "
+            + "min(salary), max(salary) from empmgmt.employees where deleted_at is null group by department";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int sketchK;
+    private final int fetchSize;
+    private final Map<String, Accumulator> departments = new ConcurrentHashMap<>();
+    private volatile boolean rebuildPending;
+
+    public DepartmentAggregateService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                      @Value("${employees.aggregates.sketch-k:200}") int sketchK,
+                                      @Value("${employees.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.sketchK = sketchK;
+        this.fetchSize = fetchSize;
+    }
+
+    public List<DepartmentAggregate> getAll() {
+        List<DepartmentAggregate> result = new ArrayList<>(departments.size());
+        departments.forEach((department, accumulator) -> result.add(accumulator.toAggregate(department)));
+        result.sort(Comparator.comparing(DepartmentAggregate::department, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return result;
+    }
+
+    public DepartmentAggregate get(String department) {
+        Accumulator accumulator = departments.get(key(department));
+        if (accumulator == null) {
+            throw new RuntimeException("Department not found");
+        }
+        return accumulator.toAggregate(key(department));
+    }
+
+    /**
+     * Copies of the current accumulators, e.g. to merge with another node's view via {@link Accumulator#merge}.
+     */
+    public Map<String, Accumulator> snapshot() {
+        Map<String, Accumulator> copy = new HashMap<>();
+        departments.forEach((department, accumulator) -> {
+            Accumulator target = new Accumulator(sketchK);
+            target.merge(accumulator);
+            copy.put(department, target);
+        });
+        return copy;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.type() == EmployeeChangedEvent.Type.UPDATED && (event.before() == null || event.after() == null)) {
+            // the old or new state is unknown, so the change cannot be applied incrementally
+            rebuildPending = true;
+            return;
+        }
+        EmployeeSnapshot before = event.before();
+        if (before != null) {
+            Accumulator accumulator = departments.get(key(before.department()));
+            if (accumulator != null) {
+                accumulator.remove(before.salary());
+            }
+        }
+        EmployeeSnapshot after = event.after();
+        if (after != null) {
+            departments.computeIfAbsent(key(after.department()), d -> new Accumulator(sketchK)).add(after.salary());
+        }
+    }
+
+    /**
+     * A bulk change touches rows nobody has the old state of, so the aggregates are rebuilt right after the commit;
+     * on a task executor thread, since the scan must not hold up the request that made the change.
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkChanged(EmployeesBulkChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Builds every accumulator from one streaming scan of the table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildPending = false;
+        Map<String, Accumulator> fresh = new HashMap<>();
+        scanSalaries(SELECT_SALARIES, null, rs -> {
+            double salary = rs.getDouble(2);
+            fresh.computeIfAbsent(key(rs.getString(1)), d -> new Accumulator(sketchK)).add(rs.wasNull() ? null : salary);
+        });
+        departments.keySet().retainAll(fresh.keySet());
+        departments.putAll(fresh);
+    }
+
+    /**
+     * Corrects drift: resets the exact moments from a {@code GROUP BY} and re-scans departments whose sketches
+     * no longer match the table.
+     */
+    @Scheduled(fixedDelayString = "${employees.aggregates.reconcile-interval:PT5M}",
+            initialDelayString = "${employees.aggregates.reconcile-interval:PT5M}")
+    public void reconcile() {
+        if (rebuildPending) {
+            rebuild();
+            return;
+        }
+        Set<String> seen = new HashSet<>();
+        List<String> rescan = new ArrayList<>();
+        jdbcTemplate.query(GROUP_BY_DEPARTMENT, (RowCallbackHandler) rs -> {
+            String department = key(rs.getString(1));
+            seen.add(department);
+            long headcount = rs.getLong(2);
+            long salaryCount = rs.getLong(3);
+            double sum = rs.getDouble(4);
+            double min = rs.getDouble(5);
+            double max = rs.getDouble(6);
+            Accumulator accumulator = departments.computeIfAbsent(department, d -> new Accumulator(sketchK));
+            if (accumulator.reset(headcount, salaryCount, sum, min, max)) {
+                rescan.add(department);
+            }
+        });
+        departments.keySet().retainAll(seen);
+        for (String department : rescan) {
+            KllSketch sketch = new KllSketch(sketchK);
+            if (department.equals(NO_DEPARTMENT)) {
+                scanSalaries(SELECT_SALARIES + " and department is null and salary is not null", null,
+                        rs -> sketch.update(rs.getDouble(2)));
+            } else {
+                scanSalaries(SELECT_SALARIES + " and department = ? and salary is not null", department,
+                        rs -> sketch.update(rs.getDouble(2)));
+            }
+            Accumulator accumulator = departments.get(department);
+            if (accumulator != null) {
+                accumulator.replaceSketch(sketch);
+            }
+        }
+    }
+
+    private void scanSalaries(String sql, String department, RowCallbackHandler handler) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            if (department != null) {
+                ps.setString(1, department);
+            }
+            return ps;
+        }, handler));
+    }
+
+    private static String key(String department) {
+        return department == null ? NO_DEPARTMENT : department;
+    }
+
+    /**
+     * Running statistics of one department. All methods are short and CPU-only, so plain monitors suffice.
+     */
+    public static final class Accumulator {
+        private final int sketchK;
+        private long headcount;
+        private long salaryCount;
+        private double sum;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        private boolean exactMin = true;
+        private boolean exactMax = true;
+        private KllSketch inserted;
+        private KllSketch removed;
+
+        public Accumulator(int sketchK) {
+            this.sketchK = sketchK;
+            this.inserted = new KllSketch(sketchK);
+            this.removed = new KllSketch(sketchK);
+        }
+
+        public synchronized void add(Double salary) {
+            headcount++;
+            if (salary == null) {
+                return;
+            }
+            salaryCount++;
+            sum += salary;
+            min = Math.min(min, salary);
+            max = Math.max(max, salary);
+            inserted.update(salary);
+        }
+
+        public synchronized void remove(Double salary) {
+            headcount = Math.max(headcount - 1, 0);
+            if (salary == null || salaryCount == 0) {
+                return;
+            }
+            salaryCount--;
+            sum -= salary;
+            removed.update(salary);
+            if (salary <= min) {
+                exactMin = false;
+            }
+            if (salary >= max) {
+                exactMax = false;
+            }
+        }
+
+        /**
+         * Combines another accumulator (e.g. from another node) into this one. Both sketch pairs are merged,
+         * so percentiles stay consistent with the combined counts.
+         */
+        public void merge(Accumulator other) {
+            // copy the other side first so the two monitors are never held together
+            Accumulator copy = new Accumulator(sketchK);
+            synchronized (other) {
+                copy.headcount = other.headcount;
+                copy.salaryCount = other.salaryCount;
+                copy.sum = other.sum;
+                copy.min = other.min;
+                copy.max = other.max;
+                copy.exactMin = other.exactMin;
+                copy.exactMax = other.exactMax;
+                copy.inserted.merge(other.inserted);
+                copy.removed.merge(other.removed);
+            }
+            synchronized (this) {
+                headcount += copy.headcount;
+                salaryCount += copy.salaryCount;
+                sum += copy.sum;
+                min = Math.min(min, copy.min);
+                max = Math.max(max, copy.max);
+                exactMin &= copy.exactMin;
+                exactMax &= copy.exactMax;
+                inserted.merge(copy.inserted);
+                removed.merge(copy.removed);
+            }
+        }
+
+        /**
+         * Overwrites the moments with exact values; returns true when the sketches should be rebuilt.
+         */
+        synchronized boolean reset(long headcount, long salaryCount, double sum, double min, double max) {
+            boolean drifted = salaryCount != this.salaryCount
+                    || inserted.getN() - removed.getN() != salaryCount
+                    || removed.getN() > inserted.getN() / 4;
+            this.headcount = headcount;
+            this.salaryCount = salaryCount;
+            this.sum = sum;
+            this.min = salaryCount == 0 ? Double.POSITIVE_INFINITY : min;
+            this.max = salaryCount == 0 ? Double.NEGATIVE_INFINITY : max;
+            this.exactMin = true;
+            this.exactMax = true;
+            return drifted;
+        }
+
+        synchronized void replaceSketch(KllSketch sketch) {
+            inserted = sketch;
+            removed = new KllSketch(sketchK);
+        }
+
+        public synchronized DepartmentAggregate toAggregate(String department) {
+            boolean any = salaryCount > 0;
+            Double low = any ? (exactMin ? min : quantile(0)) : null;
+            Double high = any ? (exactMax ? max : quantile(1)) : null;
+            return new DepartmentAggregate(department.equals(NO_DEPARTMENT) ? null : department, headcount, salaryCount,
+                    sum, any ? sum / salaryCount : null, low, high, (exactMin && exactMax) || !any,
+                    any ? quantile(0.5) : null, any ? quantile(0.9) : null, any ? quantile(0.99) : null);
+        }
+
+        /**
+         * Smallest retained value whose net rank (inserted minus removed) reaches {@code q} of the live salaries.
+         */
+        private double quantile(double q) {
+            if (removed.isEmpty()) {
+                return inserted.quantile(q);
+            }
+            double[] candidates = inserted.retainedValues();
+            long target = Math.max((long) Math.ceil(q * salaryCount), 1);
+            int lo = 0;
+            int hi = candidates.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (inserted.rank(candidates[mid]) - removed.rank(candidates[mid]) >= target) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return candidates[lo];
+        }
+    }
+}
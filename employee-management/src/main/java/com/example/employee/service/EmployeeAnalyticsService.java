@@ -0,0 +1,514 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.AnalyticsResult;
+import com.example.employee.dto.EmployeeSearchCriteria;
+import com.example.employee.dto.SnapshotFootprint;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.event.EmployeesBulkChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Read-only columnar copy of the employees table for ad-hoc analytics: salaries as {@code double[]} (NaN = none),
+ * creation times as epoch-millis {@code long[]} plus a precomputed month column, and departments dictionary-encoded
+ * into {@code int[]} codes. Queries are parallel fork-join scans over plain arrays with tight, branch-light loops.
+ * <p>
+ * The snapshot is reloaded from a streaming scan on a schedule, but only when a change event arrived since the
+ * previous load; queries always see one complete, consistent snapshot.
+ */
+@Service
+public class EmployeeAnalyticsService {
+
+    public enum GroupBy { DEPARTMENT, CREATED_MONTH, SALARY_BAND }
+
+    private static final int LEAF_ROWS = 16_384;
+    private static final int MAX_GROUPS = 10_000;
+    private static final int MAX_TOP = 1_000;
+    private static final String SELECT_COLUMNS = "select id, salary, created_at, department, "
+            + "coalesce(length(name), 0), coalesce(length(email), 0) from empmgmt.employees where deleted_at is null";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+    private volatile Snapshot snapshot = new Snapshot.Builder().build();
+    private volatile boolean dirty = true;
+
+    public EmployeeAnalyticsService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                    @Value("${employees.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        // cleared before the scan, so a change committed while loading marks the new snapshot stale again
+        dirty = false;
+        Snapshot.Builder builder = new Snapshot.Builder();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_COLUMNS, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            double salary = rs.getDouble(2);
+            if (rs.wasNull()) {
+                salary = Double.NaN;
+            }
+            Timestamp createdAt = rs.getTimestamp(3);
+            builder.add(rs.getLong(1), salary, createdAt == null ? null : createdAt.toLocalDateTime(),
+                    rs.getString(4), rs.getInt(5), rs.getInt(6));
+        }));
+        snapshot = builder.build();
+    }
+
+    @Scheduled(fixedDelayString = "${employees.analytics.refresh-interval:PT1M}",
+            initialDelayString = "${employees.analytics.refresh-interval:PT1M}")
+    public void refreshIfChanged() {
+        if (dirty) {
+            refresh();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        dirty = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkChanged(EmployeesBulkChangedEvent event) {
+        dirty = true;
+    }
+
+    /**
+     * Filters the snapshot, aggregates salary statistics per group and returns the {@code topK} best-paid matches.
+     */
+    public AnalyticsResult query(EmployeeSearchCriteria filter, GroupBy groupBy, double bandWidth, int topK) {
+        filter.validate();
+        if (filter.getNamePrefix() != null) {
+            throw new IllegalArgumentException("The analytics snapshot has no name column");
+        }
+        if (topK < 0 || topK > MAX_TOP) {
+            throw new IllegalArgumentException("top must be between 0 and " + MAX_TOP);
+        }
+        Snapshot s = snapshot;
+        Grouping grouping = Grouping.of(s, groupBy, bandWidth);
+        RowFilter rowFilter = RowFilter.of(s, filter);
+        Partial total = new Scan(s, rowFilter, grouping, topK, 0, s.size).invoke();
+
+        List<AnalyticsResult.Group> groups = new ArrayList<>();
+        for (int g = 0; g < grouping.groups; g++) {
+            if (total.count[g] > 0) {
+                boolean any = total.salaryCount[g] > 0;
+                groups.add(new AnalyticsResult.Group(grouping.label(s, g), total.count[g], total.salaryCount[g],
+                        total.sum[g], any ? total.sum[g] / total.salaryCount[g] : null,
+                        any ? total.min[g] : null, any ? total.max[g] : null));
+            }
+        }
+        int[] topRows = total.topRowsDescending(s);
+        List<AnalyticsResult.TopEntry> top = new ArrayList<>(topRows.length);
+        for (int row : topRows) {
+            int code = s.departments[row];
+            top.add(new AnalyticsResult.TopEntry(s.ids[row], code < 0 ? null : s.dictionary[code], s.salaries[row]));
+        }
+        return new AnalyticsResult(s.loadedAt, s.size, total.matched, groups, top);
+    }
+
+    public SnapshotFootprint footprint() {
+        Snapshot s = snapshot;
+        long columnar = s.columnarBytes();
+        long entities = s.entityListBytesEstimate();
+        return new SnapshotFootprint(s.size, columnar, entities, columnar == 0 ? 0 : (double) entities / columnar);
+    }
+
+    /**
+     * Immutable column arrays; {@code size} rows are valid, the arrays may be longer.
+     */
+    private static final class Snapshot {
+        final int size;
+        final long[] ids;
+        final double[] salaries;
+        final long[] createdAtMillis;
+        final int[] months;
+        final int[] departments;
+        final String[] dictionary;
+        final int minMonth;
+        final int maxMonth;
+        final double maxSalary;
+        final long nameChars;
+        final long emailChars;
+        final long departmentChars;
+        final Instant loadedAt = Instant.now();
+
+        private Snapshot(Builder b) {
+            size = b.size;
+            ids = Arrays.copyOf(b.ids, b.size);
+            salaries = Arrays.copyOf(b.salaries, b.size);
+            createdAtMillis = Arrays.copyOf(b.createdAtMillis, b.size);
+            months = Arrays.copyOf(b.months, b.size);
+            departments = Arrays.copyOf(b.departments, b.size);
+            dictionary = b.dictionary.toArray(new String[0]);
+            minMonth = b.minMonth;
+            maxMonth = b.maxMonth;
+            maxSalary = b.maxSalary;
+            nameChars = b.nameChars;
+            emailChars = b.emailChars;
+            departmentChars = b.departmentChars;
+        }
+
+        long columnarBytes() {
+            long bytes = 5 * 16 + (long) size * (8 + 8 + 8 + 4 + 4);
+            bytes += 16 + 4L * dictionary.length;
+            for (String department : dictionary) {
+                bytes += stringBytes(department.length());
+            }
+            return bytes;
+        }
+
+        /**
+         * Employee object (12 header + 6 references = 40), boxed Long and Double (16 each), LocalDateTime with its
+         * LocalDate and LocalTime (24 each), one String per non-null text value, and a 4-byte slot in the list.
+         */
+        long entityListBytesEstimate() {
+            long bytes = 16 + 16 + (long) size * (4 + 40 + 16 + 16 + 72);
+            bytes += (long) size * 2 * stringBytes(0) + nameChars + emailChars;
+            bytes += departmentChars;
+            for (int i = 0; i < size; i++) {
+                if (departments[i] >= 0) {
+                    bytes += stringBytes(0);
+                }
+            }
+            return bytes;
+        }
+
+        private static long stringBytes(int length) {
+            // String (24) + byte[] header (16) + Latin-1 payload rounded up to 8 bytes
+            return 24 + 16 + ((length + 7L) & ~7L);
+        }
+
+        static final class Builder {
+            private int size;
+            private long[] ids = new long[1024];
+            private double[] salaries = new double[1024];
+            private long[] createdAtMillis = new long[1024];
+            private int[] months = new int[1024];
+            private int[] departments = new int[1024];
+            private final List<String> dictionary = new ArrayList<>();
+            private final Map<String, Integer> codes = new HashMap<>();
+            private int minMonth = Integer.MAX_VALUE;
+            private int maxMonth = Integer.MIN_VALUE;
+            private double maxSalary;
+            private long nameChars;
+            private long emailChars;
+            private long departmentChars;
+
+            void add(long id, double salary, LocalDateTime createdAt, String department, int nameLength, int emailLength) {
+                if (size == ids.length) {
+                    int capacity = size * 2;
+                    ids = Arrays.copyOf(ids, capacity);
+                    salaries = Arrays.copyOf(salaries, capacity);
+                    createdAtMillis = Arrays.copyOf(createdAtMillis, capacity);
+                    months = Arrays.copyOf(months, capacity);
+                    departments = Arrays.copyOf(departments, capacity);
+                }
+                ids[size] = id;
+                salaries[size] = salary;
+                if (salary > maxSalary) {
+                    maxSalary = salary;
+                }
+                if (createdAt == null) {
+                    createdAtMillis[size] = Long.MIN_VALUE;
+                    months[size] = -1;
+                } else {
+                    createdAtMillis[size] = createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+                    int month = createdAt.getYear() * 12 + createdAt.getMonthValue() - 1;
+                    months[size] = month;
+                    minMonth = Math.min(minMonth, month);
+                    maxMonth = Math.max(maxMonth, month);
+                }
+                if (department == null) {
+                    departments[size] = -1;
+                } else {
+                    departments[size] = codes.computeIfAbsent(department, d -> {
+                        dictionary.add(d);
+                        return dictionary.size() - 1;
+                    });
+                    departmentChars += department.length();
+                }
+                nameChars += nameLength;
+                emailChars += emailLength;
+                size++;
+            }
+
+            Snapshot build() {
+                return new Snapshot(this);
+            }
+        }
+    }
+
+    /**
+     * Maps a row to a dense group index in {@code [0, groups)}, or -1 when the row has no value for the grouping.
+     */
+    private record Grouping(GroupBy groupBy, int groups, double bandWidth) {
+
+        static Grouping of(Snapshot s, GroupBy groupBy, double bandWidth) {
+            return switch (groupBy) {
+                case DEPARTMENT -> new Grouping(groupBy, s.dictionary.length + 1, 0);
+                case CREATED_MONTH -> {
+                    int months = s.maxMonth < s.minMonth ? 0 : s.maxMonth - s.minMonth + 1;
+                    if (months > MAX_GROUPS) {
+                        throw new IllegalArgumentException("created_at spans more than " + MAX_GROUPS + " months");
+                    }
+                    yield new Grouping(groupBy, months, 0);
+                }
+                case SALARY_BAND -> {
+                    if (!(bandWidth > 0)) {
+                        throw new IllegalArgumentException("bandWidth must be positive");
+                    }
+                    double bands = Math.floor(s.maxSalary / bandWidth) + 1;
+                    if (bands > MAX_GROUPS) {
+                        throw new IllegalArgumentException("bandWidth too small, at most " + MAX_GROUPS + " bands are allowed");
+                    }
+                    yield new Grouping(groupBy, (int) bands, bandWidth);
+                }
+            };
+        }
+
+        int groupOf(Snapshot s, int row) {
+            return switch (groupBy) {
+                case DEPARTMENT -> s.departments[row] + 1;
+                case CREATED_MONTH -> s.months[row] < 0 ? -1 : s.months[row] - s.minMonth;
+                case SALARY_BAND -> {
+                    double salary = s.salaries[row];
+                    yield salary >= 0 ? (int) (salary / bandWidth) : -1;
+                }
+            };
+        }
+
+        String label(Snapshot s, int group) {
+            return switch (groupBy) {
+                case DEPARTMENT -> group == 0 ? null : s.dictionary[group - 1];
+                case CREATED_MONTH -> {
+                    int month = group + s.minMonth;
+                    yield String.format("%04d-%02d", month / 12, month % 12 + 1);
+                }
+                case SALARY_BAND -> "[" + group * bandWidth + ", " + (group + 1) * bandWidth + ")";
+            };
+        }
+    }
+
+    /**
+     * The search criteria compiled against one snapshot; department names become a lookup table over codes.
+     */
+    private record RowFilter(boolean[] departmentAllowed, double minSalary, double maxSalary, boolean salaryFiltered,
+                             long createdFrom, long createdTo, boolean createdFiltered) {
+
+        static RowFilter of(Snapshot s, EmployeeSearchCriteria c) {
+            boolean[] allowed = null;
+            if (c.getDepartments() != null && !c.getDepartments().isEmpty()) {
+                allowed = new boolean[s.dictionary.length + 1];
+                for (int code = 0; code < s.dictionary.length; code++) {
+                    allowed[code + 1] = c.getDepartments().contains(s.dictionary[code]);
+                }
+            }
+            boolean salaryFiltered = c.getMinSalary() != null || c.getMaxSalary() != null;
+            boolean createdFiltered = c.getCreatedFrom() != null || c.getCreatedTo() != null;
+            return new RowFilter(allowed,
+                    c.getMinSalary() == null ? Double.NEGATIVE_INFINITY : c.getMinSalary(),
+                    c.getMaxSalary() == null ? Double.POSITIVE_INFINITY : c.getMaxSalary(), salaryFiltered,
+                    c.getCreatedFrom() == null ? Long.MIN_VALUE + 1 : c.getCreatedFrom().toInstant(ZoneOffset.UTC).toEpochMilli(),
+                    c.getCreatedTo() == null ? Long.MAX_VALUE : c.getCreatedTo().toInstant(ZoneOffset.UTC).toEpochMilli(),
+                    createdFiltered);
+        }
+
+        boolean test(Snapshot s, int row) {
+            if (departmentAllowed != null && !departmentAllowed[s.departments[row] + 1]) {
+                return false;
+            }
+            if (salaryFiltered) {
+                double salary = s.salaries[row];
+                // NaN fails both comparisons, so rows without a salary never match a salary filter
+                if (!(salary >= minSalary && salary <= maxSalary)) {
+                    return false;
+                }
+            }
+            if (createdFiltered) {
+                long created = s.createdAtMillis[row];
+                return created >= createdFrom && created < createdTo;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Per-group accumulators of one row range plus a min-heap of the best-paid rows seen.
+     */
+    private static final class Partial {
+        final long[] count;
+        final long[] salaryCount;
+        final double[] sum;
+        final double[] min;
+        final double[] max;
+        final int[] heap;
+        int heapSize;
+        long matched;
+
+        Partial(int groups, int topK) {
+            count = new long[groups];
+            salaryCount = new long[groups];
+            sum = new double[groups];
+            min = new double[groups];
+            max = new double[groups];
+            Arrays.fill(min, Double.POSITIVE_INFINITY);
+            Arrays.fill(max, Double.NEGATIVE_INFINITY);
+            heap = new int[topK];
+        }
+
+        void merge(Partial other, Snapshot s) {
+            for (int g = 0; g < count.length; g++) {
+                count[g] += other.count[g];
+                salaryCount[g] += other.salaryCount[g];
+                sum[g] += other.sum[g];
+                min[g] = Math.min(min[g], other.min[g]);
+                max[g] = Math.max(max[g], other.max[g]);
+            }
+            for (int i = 0; i < other.heapSize; i++) {
+                offer(s, other.heap[i]);
+            }
+            matched += other.matched;
+        }
+
+        void offer(Snapshot s, int row) {
+            if (heap.length == 0) {
+                return;
+            }
+            double salary = s.salaries[row];
+            if (heapSize < heap.length) {
+                heap[heapSize] = row;
+                siftUp(s, heapSize++);
+            } else if (salary > s.salaries[heap[0]]) {
+                heap[0] = row;
+                siftDown(s, 0);
+            }
+        }
+
+        int[] topRowsDescending(Snapshot s) {
+            int[] rows = Arrays.copyOf(heap, heapSize);
+            // few elements; a simple insertion sort keeps this allocation-free apart from the result
+            for (int i = 1; i < rows.length; i++) {
+                int row = rows[i];
+                int j = i - 1;
+                while (j >= 0 && s.salaries[rows[j]] < s.salaries[row]) {
+                    rows[j + 1] = rows[j];
+                    j--;
+                }
+                rows[j + 1] = row;
+            }
+            return rows;
+        }
+
+        private void siftUp(Snapshot s, int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (s.salaries[heap[i]] >= s.salaries[heap[parent]]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(Snapshot s, int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= heapSize) {
+                    return;
+                }
+                int smallest = left + 1 < heapSize && s.salaries[heap[left + 1]] < s.salaries[heap[left]] ? left + 1 : left;
+                if (s.salaries[heap[i]] <= s.salaries[heap[smallest]]) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+
+    private static final class Scan extends RecursiveTask<Partial> {
+        private final Snapshot s;
+        private final RowFilter rowFilter;
+        private final Grouping grouping;
+        private final int topK;
+        private final int from;
+        private final int to;
+
+        Scan(Snapshot s, RowFilter rowFilter, Grouping grouping, int topK, int from, int to) {
+            this.s = s;
+            this.rowFilter = rowFilter;
+            this.grouping = grouping;
+            this.topK = topK;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from > LEAF_ROWS) {
+                int mid = (from + to) >>> 1;
+                Scan left = new Scan(s, rowFilter, grouping, topK, from, mid);
+                left.fork();
+                Partial right = new Scan(s, rowFilter, grouping, topK, mid, to).compute();
+                Partial result = left.join();
+                result.merge(right, s);
+                return result;
+            }
+            Partial p = new Partial(grouping.groups(), topK);
+            for (int row = from; row < to; row++) {
+                if (!rowFilter.test(s, row)) {
+                    continue;
+                }
+                p.matched++;
+                int g = grouping.groupOf(s, row);
+                double salary = s.salaries[row];
+                if (g >= 0) {
+                    p.count[g]++;
+                    if (!Double.isNaN(salary)) {
+                        p.salaryCount[g]++;
+                        p.sum[g] += salary;
+                        p.min[g] = Math.min(p.min[g], salary);
+                        p.max[g] = Math.max(p.max[g], salary);
+                    }
+                }
+                if (!Double.isNaN(salary)) {
+                    p.offer(s, row);
+                }
+            }
+            return p;
+        }
+    }
+}
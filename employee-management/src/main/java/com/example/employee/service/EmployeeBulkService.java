@@ -0,0 +1,271 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.BulkCreateResult;
+import com.example.employee.dto.BulkItemResult;
+import com.example.employee.dto.BulkMutationResult;
+import com.example.employee.dto.EmployeeBulkMutation;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.event.EmployeeSnapshot;
+import com.example.employee.event.EmployeesBulkChangedEvent;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.EmployeeSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Inserts many employees with JDBC batching. Items are pre-checked for duplicate emails, then written
+ * in chunks of one transaction each; a chunk that still hits a constraint is replayed row by row so
+ * only the offending items fail.
+ * <p>
+ * Also runs set-based (soft) deletes and updates: the targeted rows are locked, then changed by one {@code UPDATE}
+ * that also stamps their {@code change_seq}, and the bulk event counts them. Hibernate invalidates the employee
+ * second-level cache region after such statements; derived indexes reload on the bulk event.
+ */
+@Service
+public class EmployeeBulkService {
+
+    private static final int EMAIL_LOOKUP_CHUNK = 1000;
+    private static final int LOCK_FETCH_SIZE = 1000;
+
+    private final EmployeeRepository repo;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmployeeCollectionVersion collectionVersion;
+    private final int maxItems;
+    private final int chunkSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public EmployeeBulkService(EmployeeRepository repo, TransactionTemplate transactionTemplate,
+                               ApplicationEventPublisher eventPublisher, EmployeeCollectionVersion collectionVersion,
+                               @Value("${employees.bulk.max-items:5000}") int maxItems,
+                               @Value("${employees.bulk.chunk-size:500}") int chunkSize) {
+        this.repo = repo;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.collectionVersion = collectionVersion;
+        this.maxItems = maxItems;
+        this.chunkSize = chunkSize;
+    }
+
+    public BulkCreateResult createAll(List<Employee> employees) {
+        if (employees.size() > maxItems) {
+            throw new IllegalArgumentException("Too many employees in one request, the limit is " + maxItems);
+        }
+        List<BulkItemResult> results = new ArrayList<>(employees.size());
+        Map<Integer, Employee> pending = rejectDuplicateEmails(employees, results);
+
+        List<Map.Entry<Integer, Employee>> entries = new ArrayList<>(pending.entrySet());
+        for (int from = 0; from < entries.size(); from += chunkSize) {
+            List<Map.Entry<Integer, Employee>> chunk = entries.subList(from, Math.min(from + chunkSize, entries.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> persistAll(chunk));
+                chunk.forEach(e -> results.add(BulkItemResult.created(e.getKey(), e.getValue().getId())));
+            } catch (DataIntegrityViolationException | PersistenceException e) {
+                insertOneByOne(chunk, results);
+            }
+        }
+        return new BulkCreateResult(results);
+    }
+
+    /**
+     * Soft-deletes every targeted employee with set-based {@code UPDATE} statements, leaving tombstones
+     * for the sync exactly like {@link EmployeeService#delete}.
+     */
+    public BulkMutationResult deleteAll(EmployeeBulkMutation mutation) {
+        Specification<Employee> target = target(mutation);
+        LocalDateTime now = LocalDateTime.now();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Employee> update = cb.createCriteriaUpdate(Employee.class);
+        Root<Employee> root = update.from(Employee.class);
+        update.set(root.<LocalDateTime>get("deletedAt"), now);
+        update.set(root.<LocalDateTime>get("updatedAt"), now);
+        update.set(root.<String>get("email"), cb.nullLiteral(String.class));
+        update.set(root.<Long>get("version"), cb.sum(root.get("version"), 1L));
+
+        long affected = transactionTemplate.execute(status -> execute(update, root, target, "delete"));
+        return new BulkMutationResult("delete", affected);
+    }
+
+    /**
+     * Reassigns the department and/or adjusts the salary of every targeted employee with set-based
+     * {@code UPDATE} statements. The version is bumped too, so ETags and If-Match see the change.
+     */
+    public BulkMutationResult updateAll(EmployeeBulkMutation mutation) {
+        boolean adjustSalary = mutation.getSalaryPercent() != null || mutation.getSalaryAmount() != null;
+        if (mutation.getDepartment() == null && !adjustSalary) {
+            throw new IllegalArgumentException("Nothing to update: set department, salaryPercent or salaryAmount");
+        }
+        Specification<Employee> target = target(mutation);
+        String operation = mutation.getDepartment() != null && adjustSalary ? "reassign-and-adjust-salary"
+                : mutation.getDepartment() != null ? "reassign-department" : "adjust-salary";
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Employee> update = cb.createCriteriaUpdate(Employee.class);
+        Root<Employee> root = update.from(Employee.class);
+        if (mutation.getDepartment() != null) {
+            update.set(root.<String>get("department"), mutation.getDepartment());
+        }
+        if (adjustSalary) {
+            Expression<Double> salary = root.get("salary");
+            if (mutation.getSalaryPercent() != null) {
+                salary = cb.prod(salary, 1 + mutation.getSalaryPercent() / 100);
+            }
+            if (mutation.getSalaryAmount() != null) {
+                salary = cb.sum(salary, mutation.getSalaryAmount());
+            }
+            update.set(root.<Double>get("salary"), salary);
+        }
+        update.set(root.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+        update.set(root.<Long>get("version"), cb.sum(root.get("version"), 1L));
+
+        long affected = transactionTemplate.execute(status -> execute(update, root, target, operation));
+        return new BulkMutationResult(operation, affected);
+    }
+
+    private Specification<Employee> target(EmployeeBulkMutation mutation) {
+        boolean hasIds = mutation.getIds() != null && !mutation.getIds().isEmpty();
+        boolean hasFilter = mutation.getFilter() != null && !mutation.getFilter().isEmpty();
+        if (!hasIds && !hasFilter) {
+            throw new IllegalArgumentException("A non-empty id list or filter is required");
+        }
+        Specification<Employee> target = Specification.where(null);
+        if (hasIds) {
+            if (mutation.getIds().size() > maxItems) {
+                throw new IllegalArgumentException("Too many ids in one request, the limit is " + maxItems);
+            }
+            target = target.and(EmployeeSpecifications.idIn(mutation.getIds()));
+        }
+        if (hasFilter) {
+            mutation.getFilter().validate();
+            target = target.and(EmployeeSpecifications.matching(mutation.getFilter()));
+        }
+        return target;
+    }
+
+    /**
+     * Locks the targeted rows in id order until the end of the transaction and returns how many there are. The ids
+     * are streamed past, not collected, however many rows the filter matches.
+     */
+    private long lockTargets(Specification<Employee> target) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Employee> root = query.from(Employee.class);
+        query.select(root.get("id")).where(target.toPredicate(root, query, cb)).orderBy(cb.asc(root.get("id")));
+        try (Stream<Long> ids = entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, LOCK_FETCH_SIZE)
+                .getResultStream()) {
+            return ids.mapToLong(id -> 1).sum();
+        }
+    }
+
+    /**
+     * Applies the update to the targeted rows in one statement that also stamps them with the transaction's
+     * {@link EmployeeCollectionVersion#claim() clock value}. The rows are locked before the clock is taken, the
+     * order every writer takes them in.
+     */
+    private long execute(CriteriaUpdate<Employee> update, Root<Employee> root, Specification<Employee> target,
+                         String operation) {
+        if (lockTargets(target) == 0) {
+            return 0;
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        update.set(root.<Long>get("changeSeq"), collectionVersion.claim());
+        // through a subquery, which applies the entity's soft-delete restriction like the locking query did
+        Subquery<Long> ids = update.subquery(Long.class);
+        Root<Employee> targeted = ids.from(Employee.class);
+        ids.select(targeted.get("id")).where(target.toPredicate(targeted, null, cb));
+        update.where(root.get("id").in(ids));
+        long affected = entityManager.createQuery(update).executeUpdate();
+        eventPublisher.publishEvent(new EmployeesBulkChangedEvent(operation, affected));
+        return affected;
+    }
+
+    private Map<Integer, Employee> rejectDuplicateEmails(List<Employee> employees, List<BulkItemResult> results) {
+        Map<Integer, Employee> pending = new TreeMap<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            employee.setId(null);
+            if (employee.getEmail() != null && !seen.add(employee.getEmail())) {
+                results.add(BulkItemResult.failed(i, "Duplicate email in request"));
+            } else {
+                pending.put(i, employee);
+            }
+        }
+
+        List<String> emails = new ArrayList<>(seen);
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += EMAIL_LOOKUP_CHUNK) {
+            existing.addAll(repo.findExistingEmails(emails.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK, emails.size()))));
+        }
+        if (!existing.isEmpty()) {
+            pending.entrySet().removeIf(e -> {
+                if (existing.contains(e.getValue().getEmail())) {
+                    results.add(BulkItemResult.failed(e.getKey(), "Email already exists"));
+                    return true;
+                }
+                return false;
+            });
+        }
+        return pending;
+    }
+
+    private void persistAll(List<Map.Entry<Integer, Employee>> chunk) {
+        for (Map.Entry<Integer, Employee> entry : chunk) {
+            entityManager.persist(entry.getValue());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        // published inside the chunk transaction, so transactional listeners only see committed rows
+        for (Map.Entry<Integer, Employee> entry : chunk) {
+            eventPublisher.publishEvent(EmployeeChangedEvent.created(EmployeeSnapshot.of(entry.getValue())));
+        }
+    }
+
+    private void insertOneByOne(List<Map.Entry<Integer, Employee>> chunk, List<BulkItemResult> results) {
+        for (Map.Entry<Integer, Employee> entry : chunk) {
+            Employee employee = entry.getValue();
+            employee.setId(null);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    entityManager.persist(employee);
+                    entityManager.flush();
+                    eventPublisher.publishEvent(EmployeeChangedEvent.created(EmployeeSnapshot.of(employee)));
+                });
+                results.add(BulkItemResult.created(entry.getKey(), employee.getId()));
+            } catch (DataIntegrityViolationException | PersistenceException e) {
+                results.add(BulkItemResult.failed(entry.getKey(),
+                        "Constraint violation: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+            }
+        }
+    }
+}
@@ -0,0 +1,420 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.EmployeeChange;
+import com.example.employee.event.EmployeeSnapshot;
+import com.example.employee.exception.ServiceUnavailableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Server-sent change feed of the employee table. Every node polls the table for rows whose {@code change_seq} passed
+ * the {@link EmployeeCollectionVersion} clock it last saw, so it streams the changes committed through any node, bulk
+ * changes and imports included, in commit order. Each change is serialized once and kept in a bounded replay ring;
+ * each subscriber gets a reference to the same entry through its own bounded queue, drained onto its connection by a
+ * fixed pool of writer threads. A drain writes at most a batch before yielding its writer, so busy streams take turns;
+ * a client that stops reading holds one writer until the container's write timeout fails its write, so the pool
+ * should be sized for the stalled clients expected within that timeout.
+ * <p>
+ * Publishing never waits for a client: a subscriber whose queue is full is evicted and its stream closed. The client
+ * reconnects with {@code Last-Event-ID} and is replayed what it missed from the ring, or told to re-list with a
+ * {@code reset} event when that is no longer in the ring. Event ids are the {@code (change_seq, id)} position of the
+ * change, which means the same on every node, so a client may resume on another one.
+ */
+@Component
+public class EmployeeChangeFeed implements MeterBinder {
+
+    private static final Entry HEARTBEAT = new Entry(null, null, null);
+
+    private static final int DRAIN_BATCH = 64;
+
+    private static final String CHANGED = "select id, name, email, department, salary, created_at, version, "
+            + "deleted_at, change_seq from empmgmt.employees "
+            + "where (change_seq, id) > (?, ?) and change_seq <= ? order by change_seq, id limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmployeeCollectionVersion collectionVersion;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final int pollBatchSize;
+    private final ExecutorService dispatcher;
+
+    // guarded by this: the ring, its floor and the published count, so that a subscriber's replay and its live queue
+    // never overlap or gap; floor is the position of the last change no longer (or never) in the ring
+    private final Entry[] ring;
+    private long published;
+    private Position floor = new Position(0, 0);
+
+    // guarded by pollLock, which keeps the database reads out of the monitor that subscribers wait on; null until
+    // started. A lock rather than a monitor, since it is held across JDBC calls
+    private final ReentrantLock pollLock = new ReentrantLock();
+    private Position polled;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong evicted = new AtomicLong();
+
+    public EmployeeChangeFeed(JdbcTemplate jdbcTemplate, EmployeeCollectionVersion collectionVersion,
+                              ObjectMapper objectMapper,
+                              @Value("${employees.changes.replay-size:1024}") int replaySize,
+                              @Value("${employees.changes.subscriber-buffer:256}") int bufferSize,
+                              @Value("${employees.changes.max-subscribers:1000}") int maxSubscribers,
+                              @Value("${employees.changes.timeout:30m}") Duration timeout,
+                              @Value("${employees.changes.poll-batch-size:1000}") int pollBatchSize,
+                              @Value("${employees.changes.writer-threads:16}") int writerThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.collectionVersion = collectionVersion;
+        this.objectMapper = objectMapper;
+        this.ring = new Entry[replaySize];
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeout.toMillis();
+        this.pollBatchSize = pollBatchSize;
+        // at most one drain per subscriber is queued or running, so the queue is bounded by max-subscribers
+        this.dispatcher = Executors.newFixedThreadPool(writerThreads, new CustomizableThreadFactory("employee-changes-"));
+    }
+
+    /**
+     * Opens a stream of the changes committed from now on, preceded by those after {@code lastEventId} if given.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(String lastEventId, SseEmitter emitter) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceUnavailableException("Too many change feed subscribers, please retry");
+        }
+        Subscriber subscriber;
+        synchronized (this) {
+            Position after = lastEventId == null ? null : parsePosition(lastEventId);
+            List<Entry> replay = lastEventId == null ? List.of() : replayAfter(after);
+            subscriber = new Subscriber(emitter, bufferSize + Math.max(replay.size(), 1), after);
+            if (replay.isEmpty()) {
+                // commits the response headers right away instead of with the first change
+                subscriber.queue.offer(HEARTBEAT);
+            }
+            replay.forEach(subscriber.queue::offer);
+            subscribers.add(subscriber);
+        }
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        subscriber.schedule();
+        return emitter;
+    }
+
+    /**
+     * Starts from the current clock: changes committed before are the listing's business, not the feed's.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Position now = new Position(collectionVersion.current(), Long.MAX_VALUE);
+        pollLock.lock();
+        try {
+            synchronized (this) {
+                floor = now;
+            }
+            polled = now;
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * Publishes the rows changed since the last poll, in commit order. The clock is read first: every change counted
+     * up to it has committed, so the rows read after it include them all.
+     */
+    @Scheduled(fixedDelayString = "${employees.changes.poll-interval:PT0.5S}")
+    public void poll() {
+        pollLock.lock();
+        try {
+            if (polled == null) {
+                return;
+            }
+            long clock = collectionVersion.current();
+            int read;
+            do {
+                List<ChangedRow> rows = jdbcTemplate.query(CHANGED, (rs, rowNum) -> {
+                    EmployeeSnapshot employee = new EmployeeSnapshot(rs.getLong(1), rs.getString(2), rs.getString(3),
+                            rs.getString(4), rs.getObject(5, Double.class), rs.getObject(6, LocalDateTime.class));
+                    EmployeeChange.Type type = rs.getObject(8) != null ? EmployeeChange.Type.DELETED
+                            : rs.getLong(7) == 0 ? EmployeeChange.Type.CREATED : EmployeeChange.Type.UPDATED;
+                    return new ChangedRow(rs.getLong(9), new EmployeeChange(type, employee.id(), employee));
+                }, polled.changeSeq(), polled.id(), clock, pollBatchSize);
+                for (ChangedRow row : rows) {
+                    publish(row.changeSeq(), row.change());
+                    polled = new Position(row.changeSeq(), row.change().id());
+                }
+                read = rows.size();
+            } while (read == pollBatchSize);
+            polled = new Position(clock, Long.MAX_VALUE);
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * Keeps idle streams alive through proxies and finds connections that were closed without a FIN.
+     */
+    @Scheduled(fixedDelayString = "${employees.changes.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            // a full queue is already waiting on the client, no need to add to it
+            if (subscriber.queue.isEmpty() && subscriber.queue.offer(HEARTBEAT)) {
+                subscriber.schedule();
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    public long evictedCount() {
+        return evicted.get();
+    }
+
+    public synchronized long publishedCount() {
+        return published;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employees.changes.subscribers", this, EmployeeChangeFeed::subscriberCount)
+                .description("Open change feed streams")
+                .register(registry);
+        FunctionCounter.builder("employees.changes.evicted", evicted, AtomicLong::get)
+                .description("Change feed subscribers dropped because they fell a full buffer behind")
+                .register(registry);
+        FunctionCounter.builder("employees.changes.published", this, EmployeeChangeFeed::publishedCount)
+                .description("Changes published to the feed")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        List<Subscriber> open = List.copyOf(subscribers);
+        open.forEach(Subscriber::close);
+        open.forEach(Subscriber::complete);
+    }
+
+    /**
+     * Hands one change to the ring and the subscribers; changes must come in position order.
+     */
+    void publish(long changeSeq, EmployeeChange change) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize change " + change, e);
+        }
+        synchronized (this) {
+            Entry entry = new Entry(new Position(changeSeq, change.id()), change.type().name().toLowerCase(), json);
+            int slot = (int) (published++ % ring.length);
+            if (ring[slot] != null) {
+                floor = ring[slot].position;
+            }
+            ring[slot] = entry;
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(entry);
+            }
+        }
+    }
+
+    /**
+     * Entries after the given event id, or a single reset entry when that position is not in the ring any more or
+     * cannot be parsed. A position this node has not reached yet replays nothing; the subscriber skips the live
+     * entries up to it.
+     */
+    private List<Entry> replayAfter(Position after) {
+        int size = (int) Math.min(published, ring.length);
+        if (after == null || after.compareTo(floor) < 0) {
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(EmployeeChange.reset());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+            Position current = size == 0 ? floor : ring[(int) ((published - 1) % ring.length)].position;
+            return List.of(new Entry(current, "reset", json));
+        }
+        List<Entry> replay = new ArrayList<>();
+        for (long index = published - size; index < published; index++) {
+            Entry entry = ring[(int) (index % ring.length)];
+            if (entry.position.compareTo(after) > 0) {
+                replay.add(entry);
+            }
+        }
+        return replay;
+    }
+
+    private static Position parsePosition(String eventId) {
+        int dash = eventId.indexOf('-');
+        try {
+            return dash < 0 ? null
+                    : new Position(Long.parseLong(eventId.substring(0, dash)), Long.parseLong(eventId.substring(dash + 1)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Where a change stands in commit order: the clock value of its transaction, then the employee id.
+     */
+    private record Position(long changeSeq, long id) implements Comparable<Position> {
+
+        @Override
+        public int compareTo(Position other) {
+            int bySeq = Long.compare(changeSeq, other.changeSeq);
+            return bySeq != 0 ? bySeq : Long.compare(id, other.id);
+        }
+
+        @Override
+        public String toString() {
+            return changeSeq + "-" + id;
+        }
+    }
+
+    private record Entry(Position position, String name, String json) {
+    }
+
+    private record ChangedRow(long changeSeq, EmployeeChange change) {
+    }
+
+    private final class Subscriber {
+
+        final SseEmitter emitter;
+        final BlockingQueue<Entry> queue;
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        // resumed from a position this node had not published yet; guarded by the feed like the ring
+        Position skipUpTo;
+        volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, int capacity, Position skipUpTo) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.skipUpTo = skipUpTo;
+        }
+
+        void offer(Entry entry) {
+            if (closed) {
+                return;
+            }
+            if (skipUpTo != null) {
+                if (entry.position.compareTo(skipUpTo) <= 0) {
+                    return;
+                }
+                skipUpTo = null;
+            }
+            if (queue.offer(entry)) {
+                schedule();
+            } else {
+                evict();
+            }
+        }
+
+        void schedule() {
+            if (!closed && scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // shutting down
+                    scheduled.set(false);
+                    close();
+                }
+            }
+        }
+
+        /**
+         * Writes up to a batch of queued entries to the connection, then goes back in line for a writer if more are
+         * queued; never runs more than once at a time.
+         */
+        private void drain() {
+            try {
+                Entry entry;
+                int written = 0;
+                while (!closed && written++ < DRAIN_BATCH && (entry = queue.poll()) != null) {
+                    if (entry == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(entry.position.toString())
+                                .name(entry.name)
+                                .data(entry.json, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (Exception e) {
+                // connection gone or emitter already completed
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            if (closed) {
+                queue.clear();
+                complete();
+            } else if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        /**
+         * Drops a subscriber that fell a whole buffer behind. Completing the emitter is left to its drain,
+         * since it may block behind a write in progress and the publisher must not.
+         */
+        private void evict() {
+            evicted.incrementAndGet();
+            close();
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+
+        void complete() {
+            try {
+                emitter.complete();
+            } catch (Exception e) {
+                // already completed by the container after a timeout or a failed write
+            }
+        }
+    }
+}
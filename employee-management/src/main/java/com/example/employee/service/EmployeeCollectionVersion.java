@@ -0,0 +1,175 @@
+package com.example.employee.service;
+
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.event.EmployeesBulkChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Version of the employee collection as a whole, kept in the database so that every node sees every node's writes:
+ * each transaction that creates, updates, deletes or bulk-changes employees increments the single
+ * {@code employee_change_clock} row just before it commits. ETags built from it let listing requests be answered
+ * with 304 after one primary-key read instead of the listing query.
+ * <p>
+ * The increment takes the row lock, which is then held only for the commit itself, so the clock also orders the
+ * writing transactions by commit: a transaction that reads version n sees every change counted up to n. The rows a
+ * transaction changed are stamped with its value in {@code change_seq}, which makes that order usable as the
+ * incremental sync's watermark: rows of per-row changes just before the commit, rows of set-based changes by the
+ * statement itself (see {@link #claim}).
+ */
+@Component
+public class EmployeeCollectionVersion {
+
+    private static final String SELECT = "select seq from empmgmt.employee_change_clock where id = 1";
+    private static final String INCREMENT = "update empmgmt.employee_change_clock set seq = seq + 1 where id = 1";
+    private static final String SEED = "insert into empmgmt.employee_change_clock (id, seq) select 1, 0 "
+            + "where not exists (select 1 from empmgmt.employee_change_clock where id = 1)";
+    private static final String STAMP = "update empmgmt.employees set change_seq = ? where id in ";
+    private static final int STAMP_CHUNK = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public EmployeeCollectionVersion(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Creates the clock row where the schema was generated rather than set up by {@code employee-entity.sql}. Done
+     * once at startup in its own statement: inside a writing transaction a failed insert would abort it on Postgres.
+     */
+    @PostConstruct
+    public void seed() {
+        try {
+            jdbcTemplate.update(SEED);
+        } catch (DuplicateKeyException e) {
+            // another node created the row first
+        }
+    }
+
+    public long current() {
+        List<Long> seq = jdbcTemplate.queryForList(SELECT, Long.class);
+        return seq.isEmpty() ? 0 : seq.get(0);
+    }
+
+    /**
+     * Strong ETag for one listing: collection version plus a hash of the request's path and parameters,
+     * since different pages and filters of the same version are different representations.
+     */
+    public String etag(String requestKey) {
+        int queryHash = requestKey.hashCode();
+        return "\"c-" + current() + "-" + Integer.toHexString(queryHash) + "\"";
+    }
+
+    // plain listeners: they run inside the writing transaction, whose commit the increment has to be part of
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        incrementOnCommit(List.of(event.id()));
+    }
+
+    @EventListener
+    public void onBulkChanged(EmployeesBulkChangedEvent event) {
+        // the set-based statement stamped its rows itself, with the value it claimed
+        incrementOnCommit(List.of());
+    }
+
+    /**
+     * Takes the clock for the current transaction now rather than just before it commits, and returns the value the
+     * transaction's changes are stamped with, so a set-based statement can set {@code change_seq} itself. The row
+     * lock is then held until the commit; callers lock the rows they change first, as every other writer does, so
+     * the two cannot deadlock.
+     */
+    public long claim() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return increment();
+        }
+        Pending pending = pending();
+        if (pending.seq == 0) {
+            pending.seq = increment();
+        }
+        return pending.seq;
+    }
+
+    /**
+     * Increments the clock once per transaction, as late as possible, and stamps the changed rows with the new value;
+     * outside a transaction right away.
+     */
+    void incrementOnCommit(Collection<Long> changedIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stamp(increment(), changedIds);
+            return;
+        }
+        pending().ids.addAll(changedIds);
+    }
+
+    private Pending pending() {
+        Pending bound = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (bound != null) {
+            return bound;
+        }
+        Pending pending = new Pending();
+        TransactionSynchronizationManager.bindResource(this, pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // entity changes are otherwise only written by the commit itself, after the stamp
+                EntityManagerHolder holder =
+                        (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+                if (holder != null) {
+                    holder.getEntityManager().flush();
+                }
+                stamp(pending.seq != 0 ? pending.seq : increment(), pending.ids);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(EmployeeCollectionVersion.this);
+            }
+        });
+        return pending;
+    }
+
+    /**
+     * Increments the clock and returns its new value, which the transaction holding the row lock reads back.
+     */
+    private long increment() {
+        if (jdbcTemplate.update(INCREMENT) == 0) {
+            throw new IllegalStateException("empmgmt.employee_change_clock has no row with id 1");
+        }
+        return current();
+    }
+
+    private void stamp(long seq, Collection<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        for (int from = 0; from < all.size(); from += STAMP_CHUNK) {
+            List<Long> chunk = all.subList(from, Math.min(from + STAMP_CHUNK, all.size()));
+            Object[] args = new Object[chunk.size() + 1];
+            args[0] = seq;
+            for (int i = 0; i < chunk.size(); i++) {
+                args[i + 1] = chunk.get(i);
+            }
+            jdbcTemplate.update(STAMP + "(" + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")", args);
+        }
+    }
+
+    // what the current transaction has to stamp: the ids of its per-row changes, and its clock value once claimed
+    private static final class Pending {
+        private final Set<Long> ids = new LinkedHashSet<>();
+        private long seq;
+    }
+}
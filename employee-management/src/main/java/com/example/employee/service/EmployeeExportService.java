@@ -0,0 +1,172 @@
+package com.example.employee.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Streams the employees table straight from a forward-only JDBC cursor to an output stream, one row at a time.
+ * No entities are created and memory use does not depend on the table size.
+ */
+@Service
+public class EmployeeExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final String SELECT_ALL =
+            "select id, name, email, department, salary, created_at from empmgmt.employees where deleted_at is null order by id";
+    private static final String CSV_HEADER = "id,name,email,department,salary,created_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final int fetchSize;
+    private final int flushEvery;
+
+    public EmployeeExportService(JdbcTemplate jdbcTemplate,
+                                 @Value("${employees.export.fetch-size:1000}") int fetchSize,
+                                 @Value("${employees.export.flush-every:1000}") int flushEvery) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+        this.flushEvery = flushEvery;
+    }
+
+    /**
+     * Writes every employee to {@code out} and returns the row count. The surrounding read-only transaction
+     * keeps autocommit off, which Postgres needs to honour the fetch size instead of buffering the whole result.
+     * If the client goes away mid-stream the running statement is cancelled and an {@link UncheckedIOException} is thrown.
+     */
+    @Transactional(readOnly = true)
+    public long export(Format format, OutputStream out) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(SELECT_ALL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                ps.setFetchSize(fetchSize);
+                try (ResultSet rs = ps.executeQuery()) {
+                    return format == Format.CSV ? writeCsv(rs, out) : writeNdjson(rs, out);
+                } catch (UncheckedIOException e) {
+                    ps.cancel();
+                    throw e;
+                }
+            }
+        });
+    }
+
+    /**
+     * Whether {@link #copyCsv} can be used, i.e. the datasource is Postgres.
+     */
+    public boolean supportsCopy() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> con.isWrapperFor(PGConnection.class)));
+    }
+
+    /**
+     * Postgres only: lets the server format the CSV with {@code COPY ... TO STDOUT}, bypassing row-by-row JDBC decoding.
+     */
+    @Transactional(readOnly = true)
+    public long copyCsv(OutputStream out) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) con -> copyOut(con, out));
+    }
+
+    private long copyOut(Connection con, OutputStream out) throws SQLException {
+        try {
+            return con.unwrap(PGConnection.class).getCopyAPI()
+                    .copyOut("COPY (" + SELECT_ALL + ") TO STDOUT WITH (FORMAT csv, HEADER)", out);
+        } catch (IOException e) {
+            // pgjdbc cancels the COPY itself when the output stream fails
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long writeNdjson(ResultSet rs, OutputStream out) throws SQLException {
+        long rows = 0;
+        try (JsonGenerator gen = jsonFactory.createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (rs.next()) {
+                gen.writeStartObject();
+                gen.writeNumberField("id", rs.getLong(1));
+                gen.writeStringField("name", rs.getString(2));
+                gen.writeStringField("email", rs.getString(3));
+                gen.writeStringField("department", rs.getString(4));
+                double salary = rs.getDouble(5);
+                if (rs.wasNull()) {
+                    gen.writeNullField("salary");
+                } else {
+                    gen.writeNumberField("salary", salary);
+                }
+                Timestamp createdAt = rs.getTimestamp(6);
+                gen.writeStringField("createdAt", createdAt == null ? null : createdAt.toLocalDateTime().toString());
+                gen.writeEndObject();
+                gen.writeRaw('\n');
+                if (++rows % flushEvery == 0) {
+                    gen.flush();
+                }
+            }
+            gen.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+
+    private long writeCsv(ResultSet rs, OutputStream out) throws SQLException {
+        long rows = 0;
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            while (rs.next()) {
+                writer.write(Long.toString(rs.getLong(1)));
+                writer.write(',');
+                writer.write(csv(rs.getString(2)));
+                writer.write(',');
+                writer.write(csv(rs.getString(3)));
+                writer.write(',');
+                writer.write(csv(rs.getString(4)));
+                writer.write(',');
+                double salary = rs.getDouble(5);
+                if (!rs.wasNull()) {
+                    writer.write(Double.toString(salary));
+                }
+                writer.write(',');
+                Timestamp createdAt = rs.getTimestamp(6);
+                if (createdAt != null) {
+                    writer.write(createdAt.toLocalDateTime().toString());
+                }
+                writer.write('\n');
+                if (++rows % flushEvery == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,347 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.BulkCreateResult;
+import com.example.employee.dto.BulkItemResult;
+import com.example.employee.event.EmployeesBulkChangedEvent;
+import com.example.employee.model.Employee;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Background CSV import. The file is parsed incrementally in batches, each batch is validated in parallel,
+ * and valid rows are loaded either with Postgres {@code COPY} into a staging table followed by one set-based
+ * merge, or, on other databases, through {@link EmployeeBulkService}'s JDBC batches.
+ */
+@Service
+public class EmployeeImportService {
+
+    private static final String STAGE_TABLE = "employees_import_stage";
+
+    private final EmployeeBulkService bulkService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmployeeCollectionVersion collectionVersion;
+    private final int batchSize;
+    private final int maxReportedRejections;
+    private final int retainedJobs;
+    private final ExecutorService executor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final Deque<String> jobOrder = new ConcurrentLinkedDeque<>();
+
+    public EmployeeImportService(EmployeeBulkService bulkService, JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                                 EmployeeCollectionVersion collectionVersion,
+                                 @Value("${employees.import.batch-size:1000}") int batchSize,
+                                 @Value("${employees.import.max-reported-rejections:1000}") int maxReportedRejections,
+                                 @Value("${employees.import.retained-jobs:100}") int retainedJobs,
+                                 @Value("${employees.import.concurrent-jobs:1}") int concurrentJobs) {
+        this.bulkService = bulkService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.collectionVersion = collectionVersion;
+        this.batchSize = batchSize;
+        this.maxReportedRejections = maxReportedRejections;
+        this.retainedJobs = retainedJobs;
+        this.executor = Executors.newFixedThreadPool(concurrentJobs, new CustomizableThreadFactory("employee-import-"));
+    }
+
+    /**
+     * Queues the import of a CSV file. The service takes ownership of the file and deletes it when done.
+     */
+    public ImportJob submit(Path csvFile, String fileName) {
+        ImportJob job = new ImportJob(fileName, maxReportedRejections);
+        jobs.put(job.getId(), job);
+        jobOrder.addLast(job.getId());
+        evictOldJobs();
+        executor.execute(() -> run(job, csvFile));
+        return job;
+    }
+
+    public ImportJob getJob(String id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new RuntimeException("Import job not found");
+        }
+        return job;
+    }
+
+    void run(ImportJob job, Path csvFile) {
+        boolean copy = supportsCopy();
+        job.start(copy ? "postgres-copy" : "jdbc-batch");
+        try (Reader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            CsvReader csv = new CsvReader(reader);
+            Map<String, Integer> columns = readHeader(csv);
+            if (copy) {
+                importWithCopy(job, csv, columns);
+            } else {
+                importWithBatches(job, csv, columns);
+            }
+            job.complete();
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(csvFile);
+            } catch (IOException ignored) {
+                // temp directory cleanup will get it
+            }
+        }
+    }
+
+    private void importWithBatches(ImportJob job, CsvReader csv, Map<String, Integer> columns) throws IOException {
+        List<ParsedRow> batch;
+        while (!(batch = readBatch(job, csv, columns)).isEmpty()) {
+            List<ParsedRow> valid = new ArrayList<>(batch.size());
+            for (ParsedRow row : batch) {
+                if (row.error() != null) {
+                    job.reject(row.line(), row.error());
+                } else {
+                    valid.add(row);
+                }
+            }
+            BulkCreateResult result = bulkService.createAll(valid.stream().map(ParsedRow::employee).toList());
+            for (BulkItemResult item : result.getItems()) {
+                if (item.getStatus() == BulkItemResult.Status.CREATED) {
+                    job.addImported(1);
+                } else {
+                    job.reject(valid.get(item.getIndex()).line(), item.getError());
+                }
+            }
+        }
+    }
+
+    private void importWithCopy(ImportJob job, CsvReader csv, Map<String, Integer> columns) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            try (Statement st = con.createStatement()) {
+                st.execute("create temp table " + STAGE_TABLE + " (line_no bigint, name text, email text, "
+                        + "department text, salary double precision, created_at timestamp) on commit drop");
+            }
+            CopyManager copyManager = con.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                List<ParsedRow> batch;
+                while (!(batch = readBatch(job, csv, columns)).isEmpty()) {
+                    StringBuilder rows = new StringBuilder(batch.size() * 96);
+                    for (ParsedRow row : batch) {
+                        if (row.error() != null) {
+                            job.reject(row.line(), row.error());
+                        } else {
+                            appendCopyRow(rows, row);
+                        }
+                    }
+                    copyManager.copyIn("copy " + STAGE_TABLE + " from stdin with (format csv)", new StringReader(rows.toString()));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            mergeStage(job, con);
+            return null;
+        }));
+    }
+
+    /**
+     * Rejects rows that repeat an email inside the file or already exist, then inserts the rest in one statement.
+     * Rows that lose a race with a concurrent insert are reported from the merge itself.
+     */
+    private void mergeStage(ImportJob job, Connection con) throws SQLException {
+        rejectFromStage(job, con, "select line_no from (select line_no, row_number() over (partition by email order by line_no) rn from "
+                + STAGE_TABLE + ") d where rn > 1", "Duplicate email in file");
+        try (Statement st = con.createStatement()) {
+            st.execute("delete from " + STAGE_TABLE + " s where exists (select 1 from " + STAGE_TABLE
+                    + " o where o.email = s.email and o.line_no < s.line_no)");
+        }
+        rejectFromStage(job, con, "select s.line_no from " + STAGE_TABLE + " s join empmgmt.employees e on e.email = s.email",
+                "Email already exists");
+        try (Statement st = con.createStatement()) {
+            st.execute("delete from " + STAGE_TABLE + " s where exists (select 1 from empmgmt.employees e where e.email = s.email)");
+        }
+
+        // every nextval of the pooled sequence is a block of 50 ids for Hibernate, so consuming one per row is collision-free;
+        // the statement yields one row per inserted employee and the line of every row that lost a race for its email;
+        // updated_at is the time of the insert, where the column default would be the start of the whole import, and
+        // change_seq is the clock value claimed for this transaction
+        long imported = 0;
+        try (PreparedStatement ps = con.prepareStatement(
+                "with ins as (insert into empmgmt.employees (id, name, email, department, salary, created_at, updated_at, change_seq) "
+                + "select nextval('empmgmt.employees_id_seq'), name, email, department, salary, created_at, clock_timestamp(), ? from "
+                + STAGE_TABLE
+                + " order by line_no on conflict (email) do nothing returning email) "
+                + "select null::bigint from ins union all select s.line_no from " + STAGE_TABLE
+                + " s where not exists (select 1 from ins where ins.email = s.email)")) {
+            ps.setLong(1, collectionVersion.claim());
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long line = rs.getLong(1);
+                    if (rs.wasNull()) {
+                        imported++;
+                    } else {
+                        job.reject(line, "Email already exists");
+                    }
+                }
+            }
+        }
+        job.addImported(imported);
+        // rows inserted set-based have no per-row events; delivered after commit to transactional listeners
+        eventPublisher.publishEvent(new EmployeesBulkChangedEvent("import", imported));
+    }
+
+    private long rejectFromStage(ImportJob job, Connection con, String sql, String reason) throws SQLException {
+        long count = 0;
+        try (PreparedStatement ps = con.prepareStatement(sql); ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                job.reject(rs.getLong(1), reason);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private List<ParsedRow> readBatch(ImportJob job, CsvReader csv, Map<String, Integer> columns) throws IOException {
+        List<RawRow> raw = new ArrayList<>(batchSize);
+        List<String> fields;
+        while (raw.size() < batchSize && (fields = csv.next()) != null) {
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            raw.add(new RawRow(csv.getRecordNumber(), fields));
+        }
+        job.addRead(raw.size());
+        return raw.parallelStream().map(row -> validate(row, columns)).toList();
+    }
+
+    private static Map<String, Integer> readHeader(CsvReader csv) throws IOException {
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("name") || !columns.containsKey("email")) {
+            throw new IllegalArgumentException("CSV header must contain at least 'name' and 'email'");
+        }
+        return columns;
+    }
+
+    static ParsedRow validate(RawRow row, Map<String, Integer> columns) {
+        String name = field(row, columns, "name");
+        String email = field(row, columns, "email");
+        if (name == null) {
+            return ParsedRow.rejected(row.line(), "Name is required");
+        }
+        if (email == null || email.indexOf('@') <= 0) {
+            return ParsedRow.rejected(row.line(), "Invalid email");
+        }
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setEmail(email);
+        employee.setDepartment(field(row, columns, "department"));
+        String salary = field(row, columns, "salary");
+        if (salary != null) {
+            try {
+                double value = Double.parseDouble(salary);
+                if (value < 0 || Double.isNaN(value) || Double.isInfinite(value)) {
+                    return ParsedRow.rejected(row.line(), "Invalid salary");
+                }
+                employee.setSalary(value);
+            } catch (NumberFormatException e) {
+                return ParsedRow.rejected(row.line(), "Invalid salary");
+            }
+        }
+        String createdAt = field(row, columns, "created_at");
+        if (createdAt != null) {
+            try {
+                employee.setCreatedAt(LocalDateTime.parse(createdAt.replace(' ', 'T')));
+            } catch (DateTimeParseException e) {
+                return ParsedRow.rejected(row.line(), "Invalid created_at");
+            }
+        }
+        return new ParsedRow(row.line(), employee, null);
+    }
+
+    private static String field(RawRow row, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= row.fields().size()) {
+            return null;
+        }
+        String value = row.fields().get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static void appendCopyRow(StringBuilder out, ParsedRow row) {
+        Employee e = row.employee();
+        out.append(row.line()).append(',')
+                .append(EmployeeExportService.csv(e.getName())).append(',')
+                .append(EmployeeExportService.csv(e.getEmail())).append(',')
+                .append(EmployeeExportService.csv(e.getDepartment())).append(',')
+                .append(e.getSalary() == null ? "" : e.getSalary().toString()).append(',')
+                .append(e.getCreatedAt()).append('\n');
+    }
+
+    private boolean supportsCopy() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> con.isWrapperFor(PGConnection.class)));
+    }
+
+    private void evictOldJobs() {
+        while (jobOrder.size() > retainedJobs) {
+            String oldest = jobOrder.peekFirst();
+            ImportJob job = oldest == null ? null : jobs.get(oldest);
+            if (job != null && !job.isFinished()) {
+                return;
+            }
+            jobOrder.pollFirst();
+            if (oldest != null) {
+                jobs.remove(oldest);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    record RawRow(long line, List<String> fields) {
+    }
+
+    record ParsedRow(long line, Employee employee, String error) {
+        static ParsedRow rejected(long line, String error) {
+            return new ParsedRow(line, null, error);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.EmployeeCursor;
+import com.example.employee.dto.EmployeeField;
+import com.example.employee.dto.EmployeePatch;
+import com.example.employee.dto.EmployeeSearchCriteria;
+import com.example.employee.dto.EmployeeSortKey;
+import com.example.employee.dto.KeysetPage;
+import com.example.employee.dto.MultiGetResult;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.event.EmployeeSnapshot;
+import com.example.employee.exception.PreconditionFailedException;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.EmployeeSpecifications;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+public class EmployeeService {
+
+    private final EmployeeRepository repo;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public EmployeeService(EmployeeRepository repo, ApplicationEventPublisher eventPublisher) {
+        this.repo = repo;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public Employee create(Employee emp) {
+        Employee saved = repo.save(emp);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(EmployeeSnapshot.of(saved)));
+        return saved;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Employee> listAll() {
+        return repo.findAll();
+    }
+
+    /**
+     * Keyset page: seeks past {@code cursor} (or starts at the beginning) and fetches one extra row
+     * to know whether another page follows. Cost is independent of how deep the client has paged.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<Employee> listPage(EmployeeSortKey sortKey, Sort.Direction direction, EmployeeCursor cursor, int limit) {
+        return search(EmployeeSearchCriteria.none(), sortKey, direction, cursor, limit);
+    }
+
+    /**
+     * Keyset page of the employees matching {@code criteria}. The same criteria must be sent with every cursor,
+     * the cursor only carries the sort position.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<Employee> search(EmployeeSearchCriteria criteria, EmployeeSortKey sortKey, Sort.Direction direction,
+                                       EmployeeCursor cursor, int limit) {
+        criteria.validate();
+        if (cursor != null) {
+            sortKey = cursor.getSortKey();
+            direction = cursor.getDirection();
+        }
+        Specification<Employee> spec = EmployeeSpecifications.matching(criteria);
+        if (cursor != null) {
+            spec = spec.and(EmployeeSpecifications.after(cursor));
+        }
+        Sort sort = sortFor(sortKey, direction);
+
+        List<Employee> rows = repo.findBy(spec, q -> q.sortBy(sort).limit(limit + 1).all());
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<Employee> items = rows.subList(0, limit);
+        return new KeysetPage<>(items, EmployeeCursor.after(items.get(limit - 1), sortKey, direction));
+    }
+
+    /**
+     * Same keyset page as {@link #search} but selecting only {@code fields}, as read-only maps instead of entities.
+     * The sort-key columns are fetched too so the next cursor can be built, and dropped again unless requested.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<Map<String, Object>> searchFields(EmployeeSearchCriteria criteria, EmployeeSortKey sortKey,
+                                                        Sort.Direction direction, EmployeeCursor cursor, int limit,
+                                                        List<EmployeeField> fields) {
+        criteria.validate();
+        if (cursor != null) {
+            sortKey = cursor.getSortKey();
+            direction = cursor.getDirection();
+        }
+        Specification<Employee> spec = EmployeeSpecifications.matching(criteria);
+        if (cursor != null) {
+            spec = spec.and(EmployeeSpecifications.after(cursor));
+        }
+        LinkedHashSet<String> selected = properties(fields);
+        boolean addedId = selected.add("id");
+        boolean addedCreatedAt = sortKey == EmployeeSortKey.CREATED_AT && selected.add("createdAt");
+
+        List<Map<String, Object>> rows = repo.findProperties(spec, sortFor(sortKey, direction), limit + 1, selected);
+        EmployeeCursor next = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            Map<String, Object> last = rows.get(limit - 1);
+            next = new EmployeeCursor(sortKey, direction, (Long) last.get("id"), (LocalDateTime) last.get("createdAt"));
+        }
+        for (Map<String, Object> row : rows) {
+            if (addedId) {
+                row.remove("id");
+            }
+            if (addedCreatedAt) {
+                row.remove("createdAt");
+            }
+        }
+        return new KeysetPage<>(rows, next);
+    }
+
+    /**
+     * Only {@code fields} of one employee, read as a scalar tuple.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> findFieldsById(Long id, List<EmployeeField> fields) {
+        List<Map<String, Object>> rows = repo.findProperties(EmployeeSpecifications.idIn(List.of(id)),
+                Sort.unsorted(), 1, properties(fields));
+        if (rows.isEmpty()) {
+            throw new RuntimeException("Employee not found");
+        }
+        return rows.get(0);
+    }
+
+    /**
+     * Classic offset page with an exact total; only sensible for small tables.
+     */
+    @Transactional(readOnly = true)
+    public Page<Employee> listOffsetPage(EmployeeSortKey sortKey, Sort.Direction direction, int page, int size) {
+        return repo.findAll(PageRequest.of(page, size, sortFor(sortKey, direction)));
+    }
+
+    @Transactional(readOnly = true)
+    public long estimateCount() {
+        return repo.estimateCount();
+    }
+
+    @Transactional(readOnly = true)
+    public Employee findById(Long id) {
+        return repo.findById(id).orElseThrow(() -> new RuntimeException("Employee not found"));
+    }
+
+    /**
+     * Resolves many ids in one call: cached employees come from the second-level cache, the rest from chunked
+     * {@code IN} queries. Duplicate ids are collapsed; order of first occurrence is preserved.
+     */
+    @Transactional(readOnly = true)
+    public MultiGetResult findAllById(List<Long> ids) {
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<Employee> loaded = repo.findAllByIdInOrder(distinct);
+        List<Employee> items = new ArrayList<>(distinct.size());
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < distinct.size(); i++) {
+            Employee employee = loaded.get(i);
+            if (employee == null) {
+                missing.add(distinct.get(i));
+            } else {
+                items.add(employee);
+            }
+        }
+        return new MultiGetResult(items, missing);
+    }
+
+    @Transactional
+    public Employee update(Long id, Employee updated) {
+        return update(id, updated, null);
+    }
+
+    /**
+     * Full replacement; with {@code expectedVersion} set, fails with {@link PreconditionFailedException}
+     * unless the stored version still matches.
+     */
+    @Transactional
+    public Employee update(Long id, Employee updated, Long expectedVersion) {
+        Employee e = findById(id);
+        checkVersion(e, expectedVersion);
+        EmployeeSnapshot before = EmployeeSnapshot.of(e);
+        e.setName(updated.getName());
+        e.setDepartment(updated.getDepartment());
+        e.setEmail(updated.getEmail());
+        e.setSalary(updated.getSalary());
+        Employee saved = repo.save(e);
+        // flush so the returned version (and the ETag built from it) is the one just written
+        repo.flush();
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, EmployeeSnapshot.of(saved)));
+        return saved;
+    }
+
+    /**
+     * Partial update that writes only the fields set in {@code patch}. Loads the entity so the result and the change
+     * event carry the full state; {@link Employee} is {@code @DynamicUpdate}, so the UPDATE lists changed columns only.
+     */
+    @Transactional
+    public Employee patch(Long id, EmployeePatch patch) {
+        Employee e = findById(id);
+        EmployeeSnapshot before = EmployeeSnapshot.of(e);
+        if (patch.getName() != null) {
+            e.setName(patch.getName());
+        }
+        if (patch.getEmail() != null) {
+            e.setEmail(patch.getEmail());
+        }
+        if (patch.getDepartment() != null) {
+            e.setDepartment(patch.getDepartment());
+        }
+        if (patch.getSalary() != null) {
+            e.setSalary(patch.getSalary());
+        }
+        Employee saved = repo.save(e);
+        repo.flush();
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, EmployeeSnapshot.of(saved)));
+        return saved;
+    }
+
+    /**
+     * Conditional partial update without loading the entity: {@code UPDATE ... WHERE id = ? AND version = ?}, which
+     * also hands back the replaced state so listeners get a full update event. Returns the new version; a version
+     * mismatch raises {@link PreconditionFailedException}.
+     */
+    @Transactional
+    public long patch(Long id, EmployeePatch patch, long expectedVersion) {
+        Optional<EmployeeSnapshot> before = repo.patchIfVersion(id, expectedVersion, patch);
+        if (before.isEmpty()) {
+            if (!repo.existsById(id)) {
+                throw new RuntimeException("Employee not found");
+            }
+            throw new PreconditionFailedException("Employee " + id + " was modified concurrently");
+        }
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before.get(), patched(before.get(), patch)));
+        return expectedVersion + 1;
+    }
+
+    /**
+     * Soft delete: the row stays behind as a tombstone so that {@code /sync} clients learn about the deletion,
+     * and is purged after the tombstone retention period.
+     */
+    @Transactional
+    public void delete(Long id) {
+        Optional<Employee> existing = repo.findById(id);
+        if (existing.isPresent() && repo.softDelete(id) > 0) {
+            eventPublisher.publishEvent(EmployeeChangedEvent.deleted(EmployeeSnapshot.of(existing.get())));
+        }
+    }
+
+    private static LinkedHashSet<String> properties(List<EmployeeField> fields) {
+        LinkedHashSet<String> properties = new LinkedHashSet<>();
+        fields.forEach(field -> properties.add(field.getProperty()));
+        return properties;
+    }
+
+    private static EmployeeSnapshot patched(EmployeeSnapshot before, EmployeePatch patch) {
+        return new EmployeeSnapshot(before.id(),
+                patch.getName() != null ? patch.getName() : before.name(),
+                patch.getEmail() != null ? patch.getEmail() : before.email(),
+                patch.getDepartment() != null ? patch.getDepartment() : before.department(),
+                patch.getSalary() != null ? patch.getSalary() : before.salary(),
+                before.createdAt());
+    }
+
+    private static void checkVersion(Employee e, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(e.getVersion())) {
+            throw new PreconditionFailedException("Employee " + e.getId() + " was modified concurrently");
+        }
+    }
+
+    private static Sort sortFor(EmployeeSortKey sortKey, Sort.Direction direction) {
+        Sort sort = Sort.by(direction, sortKey.getProperty());
+        return sortKey == EmployeeSortKey.ID ? sort : sort.and(Sort.by(direction, "id"));
+    }
+}
@@ -0,0 +1,555 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.EmployeeSuggestion;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.event.EmployeeSnapshot;
+import com.example.employee.event.EmployeesBulkChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted trigram index over employee names and emails for type-ahead lookups.
+ * <p>
+ * Every word is padded with two boundary markers before it is cut into trigrams, so a word prefix of any length
+ * maps to a fixed set of anchored trigrams. Posting lists are sorted {@code int[]} of document ordinals; documents
+ * are append-only and removals only set a tombstone bit, which keeps the lists sorted without rewriting them.
+ * Once tombstones outnumber live documents the index compacts itself.
+ * <p>
+ * Built from a streaming JDBC scan at startup and kept current from {@link EmployeeChangedEvent}s after commit.
+ */
+@Component
+public class EmployeeSuggestIndex implements MeterBinder {
+
+    public enum Mode { PREFIX, FUZZY }
+
+    private static final char BOUNDARY = '\u0001';
+    private static final String SELECT_ALL = "select id, name, email from empmgmt.employees where deleted_at is null";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+    private final double fuzzyThreshold;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuilding = new ReentrantLock();
+    private Index index = new Index();
+    // changes received while a rebuild scans the table, replayed onto its result; null when no rebuild runs.
+    // Guarded by the write lock, like index
+    private List<Change> pending;
+
+    public EmployeeSuggestIndex(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                @Value("${employees.export.fetch-size:1000}") int fetchSize,
+                                @Value("${employees.suggest.fuzzy-threshold:0.5}") double fuzzyThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.fetchSize = fetchSize;
+        this.fuzzyThreshold = fuzzyThreshold;
+    }
+
+    /**
+     * Replaces the whole index with the current table contents. The table is scanned into a fresh index without the
+     * lock, so lookups keep being served from the current one; changes arriving meanwhile are applied to the current
+     * index as usual and also buffered, then replayed onto the fresh one just before the swap. Replaying a change the
+     * scan already saw is harmless, since applying one is idempotent.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuilding.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                pending = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            Index fresh = new Index();
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                    PreparedStatement ps = con.prepareStatement(SELECT_ALL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(fetchSize);
+                    return ps;
+                }, (RowCallbackHandler) rs -> fresh.add(rs.getLong(1), rs.getString(2), rs.getString(3))));
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pending = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+            lock.writeLock().lock();
+            try {
+                Index replayed = fresh;
+                for (Change change : pending) {
+                    replayed = apply(replayed, change);
+                }
+                index = replayed;
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeSnapshot after = event.after();
+        if (event.type() == EmployeeChangedEvent.Type.UPDATED && after == null) {
+            // updated without loading the entity; read the indexed columns back by primary key
+            List<EmployeeSnapshot> rows = jdbcTemplate.query(SELECT_ALL + " and id = ?",
+                    (rs, n) -> new EmployeeSnapshot(rs.getLong(1), rs.getString(2), rs.getString(3), null, null, null),
+                    event.id());
+            after = rows.isEmpty() ? null : rows.get(0);
+        }
+        Change change = new Change(event.id(), after);
+        lock.writeLock().lock();
+        try {
+            index = apply(index, change);
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // rebuilt on a task executor thread: the scan must not hold up the request that made the bulk change
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkChanged(EmployeesBulkChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Top {@code limit} employees whose name or email matches {@code query}. PREFIX requires every query word to
+     * start a word of the name or email; FUZZY ranks by the share of the query's trigrams a document contains.
+     */
+    public List<EmployeeSuggestion> suggest(String query, int limit, Mode mode) {
+        List<String> words = words(query);
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        long[] keys = trigrams(words);
+        lock.readLock().lock();
+        try {
+            return mode == Mode.PREFIX ? index.prefix(words, keys, limit) : index.fuzzy(keys, minFuzzyHits(words), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies one change and returns the index to use from now on, which is a new one after a compaction.
+     */
+    private static Index apply(Index index, Change change) {
+        index.remove(change.id());
+        if (change.after() != null) {
+            index.add(change.after().id(), change.after().name(), change.after().email());
+        }
+        return index.docCount - index.liveCount > Math.max(1024, index.liveCount) ? index.compact() : index;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employees.suggest.documents", this, EmployeeSuggestIndex::size)
+                .description("Live documents in the type-ahead index")
+                .register(registry);
+    }
+
+    /**
+     * Hits required for a fuzzy match, relative to the query's unpadded trigrams so that a word fragment from the
+     * middle of a name ("ohn") can still match even though its boundary trigrams cannot.
+     */
+    private int minFuzzyHits(List<String> words) {
+        int inner = 0;
+        for (String word : words) {
+            inner += Math.max(word.length() - 2, 1);
+        }
+        return Math.max((int) Math.ceil(inner * fuzzyThreshold), 1);
+    }
+
+    /**
+     * Lower-cased alphanumeric runs; email addresses split into their local-part and domain words.
+     */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean letter = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                words.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Distinct boundary-padded trigrams of the words, each packed into a long as three 16-bit chars, sorted.
+     */
+    static long[] trigrams(List<String> words) {
+        int total = 0;
+        for (String word : words) {
+            total += word.length();
+        }
+        long[] keys = new long[total];
+        int n = 0;
+        for (String word : words) {
+            char a = BOUNDARY;
+            char b = BOUNDARY;
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                keys[n++] = ((long) a << 32) | ((long) b << 16) | c;
+                a = b;
+                b = c;
+            }
+        }
+        Arrays.sort(keys, 0, n);
+        int unique = 0;
+        for (int i = 0; i < n; i++) {
+            if (unique == 0 || keys[unique - 1] != keys[i]) {
+                keys[unique++] = keys[i];
+            }
+        }
+        return Arrays.copyOf(keys, unique);
+    }
+
+    private static boolean startsWord(String text, String word) {
+        if (text == null) {
+            return false;
+        }
+        int last = text.length() - word.length();
+        for (int i = 0; i <= last; i++) {
+            if ((i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1))) && text.regionMatches(true, i, word, 0, word.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The index data. Mutated only under the write lock; a rebuild or compaction creates a new instance and swaps it in.
+     */
+    private static final class Index {
+        private long[] docIds = new long[1024];
+        private String[] docNames = new String[1024];
+        private String[] docEmails = new String[1024];
+        private final BitSet deleted = new BitSet();
+        private int docCount;
+        private int liveCount;
+        private final LongIntMap ordinals = new LongIntMap();
+        private final Map<Long, Postings> postings = new HashMap<>();
+
+        void add(long id, String name, String email) {
+            if (docCount == docIds.length) {
+                int capacity = docIds.length * 2;
+                docIds = Arrays.copyOf(docIds, capacity);
+                docNames = Arrays.copyOf(docNames, capacity);
+                docEmails = Arrays.copyOf(docEmails, capacity);
+            }
+            int doc = docCount++;
+            docIds[doc] = id;
+            docNames[doc] = name;
+            docEmails[doc] = email;
+            ordinals.put(id, doc);
+            liveCount++;
+
+            List<String> words = words(name);
+            words.addAll(words(email));
+            for (long key : trigrams(words)) {
+                postings.computeIfAbsent(key, k -> new Postings()).add(doc);
+            }
+        }
+
+        void remove(long id) {
+            int doc = ordinals.remove(id);
+            if (doc >= 0) {
+                deleted.set(doc);
+                docNames[doc] = null;
+                docEmails[doc] = null;
+                liveCount--;
+            }
+        }
+
+        Index compact() {
+            Index fresh = new Index();
+            for (int doc = 0; doc < docCount; doc++) {
+                if (!deleted.get(doc)) {
+                    fresh.add(docIds[doc], docNames[doc], docEmails[doc]);
+                }
+            }
+            return fresh;
+        }
+
+        List<EmployeeSuggestion> prefix(List<String> words, long[] keys, int limit) {
+            Postings[] lists = new Postings[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                lists[i] = postings.get(keys[i]);
+                if (lists[i] == null) {
+                    return List.of();
+                }
+            }
+            // drive the intersection from the rarest trigram and seek forward in the others
+            Arrays.sort(lists, Comparator.comparingInt(p -> p.size));
+            TopK top = new TopK(limit);
+            Postings smallest = lists[0];
+            int[] cursors = new int[lists.length];
+            candidates:
+            for (int i = 0; i < smallest.size; i++) {
+                int doc = smallest.docs[i];
+                for (int l = 1; l < lists.length; l++) {
+                    cursors[l] = lists[l].seek(doc, cursors[l]);
+                    if (cursors[l] >= lists[l].size) {
+                        break candidates;
+                    }
+                    if (lists[l].docs[cursors[l]] != doc) {
+                        continue candidates;
+                    }
+                }
+                if (deleted.get(doc)) {
+                    continue;
+                }
+                // trigrams of different words may co-occur by accident, so confirm the actual word prefixes
+                boolean inName = true;
+                boolean matches = true;
+                for (String word : words) {
+                    boolean name = startsWord(docNames[doc], word);
+                    inName &= name;
+                    if (!name && !startsWord(docEmails[doc], word)) {
+                        matches = false;
+                        break;
+                    }
+                }
+                if (matches) {
+                    top.offer(doc, (inName ? 2.0 : 1.0) - lengthPenalty(doc));
+                }
+            }
+            return top.results();
+        }
+
+        List<EmployeeSuggestion> fuzzy(long[] keys, int required, int limit) {
+            List<Postings> lists = new ArrayList<>(keys.length);
+            for (long key : keys) {
+                Postings p = postings.get(key);
+                if (p != null) {
+                    lists.add(p);
+                }
+            }
+            if (lists.size() < required) {
+                return List.of();
+            }
+            // k-way merge over the sorted lists, counting in how many of them each document occurs
+            int[] cursors = new int[lists.size()];
+            TopK top = new TopK(limit);
+            while (true) {
+                int doc = Integer.MAX_VALUE;
+                for (int l = 0; l < cursors.length; l++) {
+                    Postings p = lists.get(l);
+                    if (cursors[l] < p.size && p.docs[cursors[l]] < doc) {
+                        doc = p.docs[cursors[l]];
+                    }
+                }
+                if (doc == Integer.MAX_VALUE) {
+                    break;
+                }
+                int hits = 0;
+                for (int l = 0; l < cursors.length; l++) {
+                    Postings p = lists.get(l);
+                    if (cursors[l] < p.size && p.docs[cursors[l]] == doc) {
+                        hits++;
+                        cursors[l]++;
+                    }
+                }
+                if (hits >= required && !deleted.get(doc)) {
+                    top.offer(doc, (double) hits / keys.length - lengthPenalty(doc));
+                }
+            }
+            return top.results();
+        }
+
+        /**
+         * Tie-breaker in the sixth decimal: among equally good matches, shorter names rank first.
+         */
+        private double lengthPenalty(int doc) {
+            return Math.min(docNames[doc] == null ? 999 : docNames[doc].length(), 999) / 1_000_000.0;
+        }
+
+        /**
+         * Keeps the best {@code k} documents; allocates a result object only for documents that make the cut.
+         */
+        private final class TopK {
+            private final int k;
+            private final PriorityQueue<EmployeeSuggestion> heap;
+
+            TopK(int k) {
+                this.k = k;
+                this.heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(EmployeeSuggestion::score)
+                        .thenComparing(EmployeeSuggestion::id, Comparator.reverseOrder()));
+            }
+
+            void offer(int doc, double score) {
+                if (heap.size() == k && score <= heap.peek().score()) {
+                    return;
+                }
+                heap.add(new EmployeeSuggestion(docIds[doc], docNames[doc], docEmails[doc], score));
+                if (heap.size() > k) {
+                    heap.poll();
+                }
+            }
+
+            List<EmployeeSuggestion> results() {
+                List<EmployeeSuggestion> results = new ArrayList<>(heap);
+                results.sort(heap.comparator().reversed());
+                return results;
+            }
+        }
+    }
+
+    private record Change(long id, EmployeeSnapshot after) {
+    }
+
+    /**
+     * Growable sorted array of document ordinals.
+     */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size + (size >> 1) + 1);
+            }
+            docs[size++] = doc;
+        }
+
+        /**
+         * Index of the first element at or after {@code from} that is {@code >= doc}, galloping then binary search.
+         */
+        int seek(int doc, int from) {
+            int step = 1;
+            int hi = from;
+            while (hi < size && docs[hi] < doc) {
+                from = hi + 1;
+                hi += step;
+                step <<= 1;
+            }
+            int idx = Arrays.binarySearch(docs, from, Math.min(hi + 1, size), doc);
+            return idx >= 0 ? idx : -idx - 1;
+        }
+    }
+
+    /**
+     * Open-addressing map from employee id to document ordinal without boxing; -1 means absent.
+     */
+    private static final class LongIntMap {
+        private static final long EMPTY = Long.MIN_VALUE;
+        private long[] keys = newKeys(1024);
+        private int[] values = new int[1024];
+        private int size;
+
+        private static long[] newKeys(int capacity) {
+            long[] keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+
+        private int slot(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & (keys.length - 1);
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int i = slot(key);
+            while (keys[i] != EMPTY && keys[i] != key) {
+                i = (i + 1) & (keys.length - 1);
+            }
+            if (keys[i] == EMPTY) {
+                size++;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        int remove(long key) {
+            int mask = keys.length - 1;
+            int i = slot(key);
+            while (keys[i] != key) {
+                if (keys[i] == EMPTY) {
+                    return -1;
+                }
+                i = (i + 1) & mask;
+            }
+            int value = values[i];
+            keys[i] = EMPTY;
+            size--;
+            // backward-shift the rest of the probe run so lookups never stop at the hole
+            for (int j = (i + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+                int home = slot(keys[j]);
+                if (((j - home) & mask) >= ((j - i) & mask)) {
+                    keys[i] = keys[j];
+                    values[i] = values[j];
+                    keys[j] = EMPTY;
+                    i = j;
+                }
+            }
+            return value;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = newKeys(oldKeys.length * 2);
+            values = new int[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+    }
+}
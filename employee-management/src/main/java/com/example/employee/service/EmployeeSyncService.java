@@ -0,0 +1,115 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.EmployeeView;
+import com.example.employee.dto.SyncPage;
+import com.example.employee.dto.SyncWatermark;
+import com.example.employee.exception.GoneException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental sync for downstream copies of the employee directory: rows changed after a watermark, tombstones of
+ * deleted rows included, in {@code (change_seq, id)} order over the matching index.
+ * <p>
+ * A watermark on a write timestamp loses rows whose transaction took its timestamp before a newer row but committed
+ * after it was read. {@code change_seq} is the {@link EmployeeCollectionVersion} value of the transaction that last
+ * wrote the row, taken under the clock's row lock just before it commits, so it follows commit order: once a row with
+ * sequence n is visible, every row with a smaller one is too, and a change can never land behind a watermark already
+ * handed out.
+ * <p>
+ * Tombstones are purged after {@code employees.sync.tombstone-retention}; a watermark whose client has not been up to
+ * date for longer than that may have missed a purged deletion and is answered with 410 Gone, after which the client
+ * starts over without {@code since}.
+ */
+@Service
+public class EmployeeSyncService {
+
+    private static final String SELECT = "select id, name, email, department, salary, created_at, version, "
+            + "updated_at, deleted_at, change_seq from empmgmt.employees";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmployeeCollectionVersion collectionVersion;
+    private final Duration tombstoneRetention;
+
+    public EmployeeSyncService(JdbcTemplate jdbcTemplate, EmployeeCollectionVersion collectionVersion,
+                               @Value("${employees.sync.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.collectionVersion = collectionVersion;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * Up to {@code limit} changes after {@code since} (from the beginning if null).
+     */
+    @Transactional(readOnly = true)
+    public SyncPage changesSince(SyncWatermark since, int limit) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (since != null && since.issuedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw new GoneException("Sync watermark is older than the tombstone retention, sync again without since");
+        }
+        // read before the rows: every change counted up to it has committed, so the rows query below sees them all
+        long clock = collectionVersion.current();
+
+        StringBuilder sql = new StringBuilder(SELECT);
+        List<Object> args = new ArrayList<>();
+        if (since != null) {
+            // a row-value comparison, which the planner turns into one range seek on (change_seq, id)
+            sql.append(" where (change_seq, id) > (?, ?)");
+            args.add(since.changeSeq());
+            args.add(since.lastId());
+        }
+        sql.append(" order by change_seq, id limit ?");
+        args.add(limit + 1);
+
+        // a client paging through keeps the time it was last up to date; one starting over has nothing to miss yet
+        LocalDateTime issuedAt = since == null ? now : since.issuedAt();
+        List<EmployeeView> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        SyncWatermark[] last = {since};
+        int[] rows = {0};
+        jdbcTemplate.query(sql.toString(), (RowCallbackHandler) rs -> {
+            if (++rows[0] > limit) {
+                return;
+            }
+            long id = rs.getLong(1);
+            if (rs.getObject(9) != null) {
+                deleted.add(id);
+            } else {
+                changed.add(new EmployeeView(id, rs.getString(2), rs.getString(3), rs.getString(4),
+                        rs.getObject(5, Double.class), rs.getObject(6, LocalDateTime.class), rs.getLong(7),
+                        rs.getObject(8, LocalDateTime.class)));
+            }
+            last[0] = new SyncWatermark(rs.getLong(10), id, issuedAt);
+        }, args.toArray());
+
+        boolean hasMore = rows[0] > limit;
+        SyncWatermark next = last[0];
+        if (!hasMore) {
+            // everything up to the clock read above has been delivered, so the next call can start there even if
+            // nothing changed; this also keeps idle clients' watermarks from ageing past the tombstone retention
+            SyncWatermark upToDate = new SyncWatermark(clock, Long.MAX_VALUE, now);
+            next = next == null || upToDate.compareTo(next) > 0 ? upToDate
+                    : new SyncWatermark(next.changeSeq(), next.lastId(), now);
+        }
+        return new SyncPage(changed, deleted, next.encode(), hasMore);
+    }
+
+    /**
+     * Removes tombstones older than the retention period and returns how many were removed.
+     */
+    @Scheduled(fixedDelayString = "${employees.sync.purge-interval:PT1H}")
+    public int purgeTombstones() {
+        return jdbcTemplate.update("delete from empmgmt.employees where deleted_at < ?",
+                LocalDateTime.now().minus(tombstoneRetention));
+    }
+}
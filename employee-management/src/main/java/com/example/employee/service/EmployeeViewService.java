@@ -0,0 +1,146 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.EmployeeCursor;
+import com.example.employee.dto.EmployeeSearchCriteria;
+import com.example.employee.dto.EmployeeSortKey;
+import com.example.employee.dto.EmployeeView;
+import com.example.employee.dto.KeysetPage;
+import com.example.employee.dto.VersionedListing;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * JDBC read path for the employee listing and search. Rows are mapped by a prepared-statement row mapper into
+ * {@link EmployeeView} records: no entity instances, no persistence-context snapshots for dirty checking,
+ * and every read runs in a read-only transaction. Writes keep going through JPA.
+ * <p>
+ * The SQL mirrors {@code EmployeeSpecifications} predicate for predicate, so both paths use the same indexes
+ * and return the same rows.
+ */
+@Service
+public class EmployeeViewService {
+
+    private static final String SELECT =
+            "select id, name, email, department, salary, created_at, version, updated_at from empmgmt.employees";
+
+    private static final RowMapper<EmployeeView> ROW_MAPPER = (rs, rowNum) -> new EmployeeView(
+            rs.getLong(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getString(4),
+            rs.getObject(5, Double.class),
+            rs.getObject(6, LocalDateTime.class),
+            rs.getLong(7),
+            rs.getObject(8, LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmployeeCollectionVersion collectionVersion;
+
+    public EmployeeViewService(JdbcTemplate jdbcTemplate, EmployeeCollectionVersion collectionVersion) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.collectionVersion = collectionVersion;
+    }
+
+    /**
+     * Reads a listing and its ETag in one read-only transaction, so the collection version and the rows come from the
+     * same database, replica or primary. The version is read first: a write committed in between can only make the
+     * tag stale, never the body. When {@code notModified} accepts the tag, no rows are read.
+     */
+    @Transactional(readOnly = true)
+    public <T> VersionedListing<T> versioned(String requestKey, Predicate<String> notModified, Supplier<T> read) {
+        String etag = collectionVersion.etag(requestKey);
+        return new VersionedListing<>(etag, notModified.test(etag) ? null : read.get());
+    }
+
+    /**
+     * Keyset page of the employees matching {@code criteria}, with the same semantics as {@link EmployeeService#search}.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<EmployeeView> search(EmployeeSearchCriteria criteria, EmployeeSortKey sortKey, Sort.Direction direction,
+                                           EmployeeCursor cursor, int limit) {
+        criteria.validate();
+        if (cursor != null) {
+            sortKey = cursor.getSortKey();
+            direction = cursor.getDirection();
+        }
+        StringBuilder sql = new StringBuilder(SELECT);
+        List<Object> args = new ArrayList<>();
+        // tombstones of soft-deleted employees are only visible to the sync
+        List<String> predicates = new ArrayList<>(List.of("deleted_at is null"));
+        addCriteria(criteria, predicates, args);
+        if (cursor != null) {
+            addSeek(cursor, predicates, args);
+        }
+        sql.append(" where ").append(String.join(" and ", predicates));
+        String dir = direction == Sort.Direction.ASC ? "asc" : "desc";
+        sql.append(sortKey == EmployeeSortKey.ID
+                ? " order by id " + dir
+                : " order by created_at " + dir + ", id " + dir);
+        sql.append(" limit ?");
+        args.add(limit + 1);
+
+        List<EmployeeView> rows = jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<EmployeeView> items = rows.subList(0, limit);
+        EmployeeView last = items.get(limit - 1);
+        return new KeysetPage<>(items, new EmployeeCursor(sortKey, direction, last.id(), last.createdAt()));
+    }
+
+    private static void addCriteria(EmployeeSearchCriteria criteria, List<String> predicates, List<Object> args) {
+        List<String> departments = criteria.getDepartments();
+        if (departments != null && !departments.isEmpty()) {
+            if (departments.size() == 1) {
+                predicates.add("department = ?");
+            } else {
+                predicates.add("department in (" + String.join(", ", Collections.nCopies(departments.size(), "?")) + ")");
+            }
+            args.addAll(departments);
+        }
+        if (criteria.getMinSalary() != null) {
+            predicates.add("salary >= ?");
+            args.add(criteria.getMinSalary());
+        }
+        if (criteria.getMaxSalary() != null) {
+            predicates.add("salary <= ?");
+            args.add(criteria.getMaxSalary());
+        }
+        if (criteria.getCreatedFrom() != null) {
+            predicates.add("created_at >= ?");
+            args.add(criteria.getCreatedFrom());
+        }
+        if (criteria.getCreatedTo() != null) {
+            predicates.add("created_at < ?");
+            args.add(criteria.getCreatedTo());
+        }
+        String prefix = criteria.getNamePrefix();
+        if (prefix != null && !prefix.isEmpty()) {
+            predicates.add("name like ? escape '\\'");
+            args.add(prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%");
+        }
+    }
+
+    private static void addSeek(EmployeeCursor cursor, List<String> predicates, List<Object> args) {
+        String op = cursor.getDirection() == Sort.Direction.ASC ? ">" : "<";
+        if (cursor.getSortKey() == EmployeeSortKey.ID) {
+            predicates.add("id " + op + " ?");
+            args.add(cursor.getLastId());
+        } else {
+            predicates.add("(created_at " + op + " ? or (created_at = ? and id " + op + " ?))");
+            args.add(cursor.getLastCreatedAt());
+            args.add(cursor.getLastCreatedAt());
+            args.add(cursor.getLastId());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.employee.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one CSV import, updated by the import worker and read concurrently by status requests.
+ */
+public class ImportJob {
+
+    public enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    public record Rejection(long line, String reason) {
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final String fileName;
+    private final int maxReportedRejections;
+    private final Instant submittedAt = Instant.now();
+    private volatile State state = State.QUEUED;
+    private volatile String loader;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final Queue<Rejection> rejections = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger reportedRejections = new AtomicInteger();
+
+    public ImportJob(String fileName, int maxReportedRejections) {
+        this.fileName = fileName;
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    void start(String loader) {
+        this.loader = loader;
+        this.startedAt = Instant.now();
+        this.state = State.RUNNING;
+    }
+
+    void complete() {
+        this.finishedAt = Instant.now();
+        this.state = State.COMPLETED;
+    }
+
+    void fail(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.state = State.FAILED;
+    }
+
+    void addRead(long rows) {
+        rowsRead.addAndGet(rows);
+    }
+
+    void addImported(long rows) {
+        rowsImported.addAndGet(rows);
+    }
+
+    void reject(long line, String reason) {
+        rowsRejected.incrementAndGet();
+        // the count is exact, the detailed report is capped so a bad file cannot exhaust memory
+        if (reportedRejections.incrementAndGet() <= maxReportedRejections) {
+            rejections.add(new Rejection(line, reason));
+        }
+    }
+
+    public String getId() { return id; }
+    public String getFileName() { return fileName; }
+    public State getState() { return state; }
+    public String getLoader() { return loader; }
+    public Instant getSubmittedAt() { return submittedAt; }
+    public Instant getStartedAt() { return startedAt; }
+    public Instant getFinishedAt() { return finishedAt; }
+    public String getError() { return error; }
+    public long getRowsRead() { return rowsRead.get(); }
+    public long getRowsImported() { return rowsImported.get(); }
+    public long getRowsRejected() { return rowsRejected.get(); }
+    public boolean isFinished() { return state == State.COMPLETED || state == State.FAILED; }
+
+    public double getRowsPerSecond() {
+        Instant start = startedAt;
+        if (start == null) {
+            return 0;
+        }
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long millis = Math.max(Duration.between(start, end).toMillis(), 1);
+        return rowsRead.get() * 1000.0 / millis;
+    }
+
+    public List<Rejection> getRejections() {
+        return new ArrayList<>(rejections);
+    }
+}
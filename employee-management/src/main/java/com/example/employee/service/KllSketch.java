@@ -0,0 +1,207 @@
+package com.example.employee.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * KLL quantile sketch over doubles (Karnin, Lang, Liberty 2016). Level {@code h} holds items of weight {@code 2^h};
+ * a full level is sorted and every other item, at a random offset, is promoted to the next level. Rank error is
+ * about {@code 1.7 / k} of n with high probability, memory stays around {@code 3k} doubles, and two sketches merge
+ * by concatenating their levels. Not thread-safe.
+ */
+public final class KllSketch {
+
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+
+    private final int k;
+    private final SplittableRandom random;
+    private final List<double[]> levels = new ArrayList<>();
+    private int[] sizes = new int[0];
+    private long n;
+    private int retained;
+
+    public KllSketch(int k) {
+        this(k, new SplittableRandom());
+    }
+
+    KllSketch(int k, SplittableRandom random) {
+        if (k < 8) {
+            throw new IllegalArgumentException("k must be at least 8");
+        }
+        this.k = k;
+        this.random = random;
+        addLevel();
+    }
+
+    public void update(double value) {
+        append(0, value);
+        n++;
+        retained++;
+        if (retained >= maxRetained()) {
+            compress();
+        }
+    }
+
+    /**
+     * Folds {@code other} into this sketch; {@code other} is not modified.
+     */
+    public void merge(KllSketch other) {
+        while (levels.size() < other.levels.size()) {
+            addLevel();
+        }
+        for (int h = 0; h < other.levels.size(); h++) {
+            double[] items = other.levels.get(h);
+            for (int i = 0; i < other.sizes[h]; i++) {
+                append(h, items[i]);
+            }
+        }
+        n += other.n;
+        retained += other.retained;
+        while (retained >= maxRetained()) {
+            compress();
+        }
+    }
+
+    public long getN() {
+        return n;
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Approximate number of inserted values {@code <= value}.
+     */
+    public long rank(double value) {
+        long rank = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            double[] items = levels.get(h);
+            int size = sizes[h];
+            long count = 0;
+            for (int i = 0; i < size; i++) {
+                if (items[i] <= value) {
+                    count++;
+                }
+            }
+            rank += count << h;
+        }
+        return rank;
+    }
+
+    /**
+     * Approximate value at normalized rank {@code q} in [0, 1], or NaN when empty.
+     */
+    public double quantile(double q) {
+        if (n == 0) {
+            return Double.NaN;
+        }
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        sortWithWeights(values, weights);
+        long target = (long) Math.ceil(q * n);
+        long cumulative = 0;
+        for (int i = 0; i < values.length; i++) {
+            cumulative += weights[i];
+            if (cumulative >= target) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    /**
+     * All retained values in ascending order; the candidate answers when searching ranks across several sketches.
+     */
+    public double[] retainedValues() {
+        double[] values = new double[retained];
+        int pos = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            System.arraycopy(levels.get(h), 0, values, pos, sizes[h]);
+            pos += sizes[h];
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    /**
+     * Fills both arrays with all retained items in ascending order and each item's weight, by merging sorted levels.
+     */
+    private void sortWithWeights(double[] values, long[] weights) {
+        int pos = 0;
+        double[][] byLevel = new double[levels.size()][];
+        for (int h = 0; h < levels.size(); h++) {
+            byLevel[h] = Arrays.copyOf(levels.get(h), sizes[h]);
+            Arrays.sort(byLevel[h]);
+        }
+        int[] cursors = new int[levels.size()];
+        while (pos < values.length) {
+            int best = -1;
+            for (int h = 0; h < byLevel.length; h++) {
+                if (cursors[h] < byLevel[h].length && (best < 0 || byLevel[h][cursors[h]] < byLevel[best][cursors[best]])) {
+                    best = h;
+                }
+            }
+            values[pos] = byLevel[best][cursors[best]++];
+            weights[pos++] = 1L << best;
+        }
+    }
+
+    private int capacity(int level) {
+        int depth = levels.size() - level - 1;
+        return Math.max((int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)), 2);
+    }
+
+    private int maxRetained() {
+        int max = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            max += capacity(h);
+        }
+        return max;
+    }
+
+    private void compress() {
+        for (int h = 0; h < levels.size(); h++) {
+            int size = sizes[h];
+            if (size < capacity(h)) {
+                continue;
+            }
+            if (h + 1 == levels.size()) {
+                addLevel();
+            }
+            double[] items = levels.get(h);
+            Arrays.sort(items, 0, size);
+            // an odd leftover stays on this level so total weight is preserved exactly
+            int start = size % 2 == 1 ? 1 : 0;
+            int offset = random.nextInt(2);
+            for (int i = start + offset; i < size; i += 2) {
+                append(h + 1, items[i]);
+            }
+            int promoted = (size - start) / 2;
+            sizes[h] = start;
+            retained -= promoted * 2;
+            retained += promoted;
+            if (retained < maxRetained()) {
+                return;
+            }
+        }
+    }
+
+    private void addLevel() {
+        levels.add(new double[k]);
+        sizes = Arrays.copyOf(sizes, levels.size());
+    }
+
+    private void append(int level, double value) {
+        double[] items = levels.get(level);
+        int size = sizes[level];
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+            levels.set(level, items);
+        }
+        items[size] = value;
+        sizes[level] = size + 1;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.employee.service;
+
+import com.example.employee.model.OutboxEvent;
+import com.example.employee.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers outbox events to the configured {@link OutboxSink} in the background, so writers never wait for it.
+ * <p>
+ * Each batch is claimed with {@code SELECT ... FOR UPDATE SKIP LOCKED} in a short transaction that leases it, pushing
+ * its {@code available_at} back by {@code outbox.lease}; the batch is handed to the sink after that commits, and
+ * deleted or rescheduled in a second short transaction. No row lock or connection is held while the sink works,
+ * dispatchers on several nodes work on disjoint batches without coordinating, and the batch of a node that dies
+ * mid-delivery is claimed again once its lease runs out. Delivery is therefore at least once and roughly in creation
+ * order; a failed batch is retried with exponential backoff, and after {@code outbox.retry.max-attempts} its rows are
+ * parked (null {@code available_at}) instead of blocking the rest.
+ * <p>
+ * Polling runs on a thread of its own rather than the shared scheduler, and one run delivers at most
+ * {@code outbox.max-batches-per-run} batches before waiting for the next poll.
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxEventRepository repository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration lease;
+    private final Duration pollInterval;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final Timer lag;
+    private final DistributionSummary batchSizes;
+    private final Counter delivered;
+    private final Counter retries;
+    private final Counter deadLettered;
+    private final ScheduledExecutorService poller =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("outbox-dispatcher-"));
+
+    public OutboxDispatcher(OutboxEventRepository repository, OutboxSink sink, TransactionTemplate transactionTemplate,
+                            MeterRegistry registry,
+                            @Value("${outbox.batch-size:100}") int batchSize,
+                            @Value("${outbox.max-batches-per-run:10}") int maxBatchesPerRun,
+                            @Value("${outbox.lease:1m}") Duration lease,
+                            @Value("${outbox.poll-interval:PT1S}") Duration pollInterval,
+                            @Value("${outbox.retry.max-attempts:10}") int maxAttempts,
+                            @Value("${outbox.retry.initial-backoff:1s}") Duration initialBackoff,
+                            @Value("${outbox.retry.max-backoff:5m}") Duration maxBackoff) {
+        this.repository = repository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.lease = lease;
+        this.pollInterval = pollInterval;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lag = Timer.builder("outbox.dispatch.lag")
+                .description("Time from recording an outbox event to its delivery")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.batchSizes = DistributionSummary.builder("outbox.dispatch.batch.size")
+                .description("Events per delivered batch")
+                .register(registry);
+        this.delivered = Counter.builder("outbox.dispatch.delivered")
+                .description("Outbox events delivered to the sink")
+                .register(registry);
+        this.retries = Counter.builder("outbox.dispatch.retries")
+                .description("Outbox events scheduled for another attempt after a failed delivery")
+                .register(registry);
+        this.deadLettered = Counter.builder("outbox.dispatch.dead-lettered")
+                .description("Outbox events parked after running out of attempts")
+                .register(registry);
+        Gauge.builder("outbox.dead-lettered", repository, OutboxEventRepository::countDeadLettered)
+                .description("Parked outbox events waiting for inspection")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        poller.scheduleWithFixedDelay(() -> {
+            try {
+                dispatch();
+            } catch (Exception e) {
+                // keeps the schedule alive, the next poll tries again
+                log.warn("Outbox dispatch failed: {}", e.toString());
+            }
+        }, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+    }
+
+    /**
+     * Drains the due events batch by batch; stops at the first short or failed batch, or after
+     * {@code outbox.max-batches-per-run} batches, until the next poll.
+     */
+    public void dispatch() {
+        for (int run = 0; run < maxBatchesPerRun && dispatchBatch() == batchSize; run++) {
+            // a full batch suggests more are due
+        }
+    }
+
+    /**
+     * Claims, delivers and removes one batch; returns how many events were delivered.
+     */
+    public int dispatchBatch() {
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> {
+            List<OutboxEvent> claimed = repository.claimDue(LocalDateTime.now(), Limit.of(batchSize));
+            LocalDateTime leasedUntil = LocalDateTime.now().plus(lease);
+            claimed.forEach(event -> event.setAvailableAt(leasedUntil));
+            return claimed;
+        });
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+        try {
+            sink.publish(batch.stream().map(OutboxEvent::toMessage).toList());
+        } catch (Exception e) {
+            log.warn("Outbox delivery of {} events failed: {}", batch.size(), e.toString());
+            transactionTemplate.executeWithoutResult(status -> reschedule(repository.findAllById(ids), e));
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> repository.deleteAllByIdInBatch(ids));
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : batch) {
+            lag.record(Duration.between(event.getCreatedAt(), now));
+        }
+        batchSizes.record(batch.size());
+        delivered.increment(batch.size());
+        return batch.size();
+    }
+
+    private void reschedule(List<OutboxEvent> batch, Exception failure) {
+        String error = String.valueOf(failure);
+        if (error.length() > 1000) {
+            error = error.substring(0, 1000);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : batch) {
+            int attempts = event.getAttempts() + 1;
+            event.setAttempts(attempts);
+            event.setLastError(error);
+            if (attempts >= maxAttempts) {
+                event.setAvailableAt(null);
+                deadLettered.increment();
+            } else {
+                event.setAvailableAt(now.plus(backoff(attempts)));
+                retries.increment();
+            }
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return delay.compareTo(maxBackoff) > 0 || delay.isNegative() ? maxBackoff : delay;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.employee.service;
+
+import com.example.employee.event.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * Destination of the outbox events, selected with {@code outbox.sink}. A batch counts as delivered only if
+ * {@link #publish} returns normally; on an exception the whole batch is retried, so implementations may see
+ * messages again and should hand them on idempotently.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> batch) throws Exception;
+}
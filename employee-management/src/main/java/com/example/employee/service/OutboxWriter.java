@@ -0,0 +1,54 @@
+package com.example.employee.service;
+
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.event.EmployeesBulkChangedEvent;
+import com.example.employee.event.UserChangedEvent;
+import com.example.employee.model.OutboxEvent;
+import com.example.employee.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records every employee and user change in the outbox. A plain (not transactional) listener, so it runs inside the
+ * publisher's transaction: the event row commits or rolls back with the change, and the only cost on the write path
+ * is one more insert in the same flush. Delivery is left to {@link OutboxDispatcher}.
+ */
+@Component
+public class OutboxWriter {
+
+    private final OutboxEventRepository repository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(OutboxEventRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        record("employee", String.valueOf(event.id()), "employee." + event.type().name().toLowerCase(), event);
+    }
+
+    @EventListener
+    public void onBulkChanged(EmployeesBulkChangedEvent event) {
+        record("employee", null, "employee.bulk", event);
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        record("user", event.username(), "user.changed", event);
+    }
+
+    private void record(String aggregateType, String aggregateId, String eventType, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            // fails the change itself: it must not commit without its event
+            throw new IllegalStateException("Cannot serialize event " + event, e);
+        }
+        repository.save(new OutboxEvent(aggregateType, aggregateId, eventType, payload));
+    }
+}
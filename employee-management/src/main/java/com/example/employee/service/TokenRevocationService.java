@@ -0,0 +1,72 @@
+package com.example.employee.service;
+
+import com.example.employee.event.UserChangedEvent;
+import com.example.employee.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the current token version per user so revoked tokens can be rejected without a database read.
+ * Only users that were ever revoked are held in memory; everyone else is implicitly at version 0.
+ * Revocations made on other nodes are picked up every {@code jwt.revocation.refresh}.
+ */
+@Service
+public class TokenRevocationService {
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, Integer> versions = new ConcurrentHashMap<>();
+
+    public TokenRevocationService(UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh:PT30S}", initialDelayString = "${jwt.revocation.refresh:PT30S}")
+    public void reload() {
+        // merged rather than replaced: versions only grow, and a revocation made here while the query ran must not be
+        // overwritten by the older value it read
+        for (Object[] row : userRepository.findRevokedTokenVersions()) {
+            versions.merge((String) row[0], (Integer) row[1], Math::max);
+        }
+    }
+
+    /**
+     * Records a token version read from the database outside {@link #reload}, e.g. at login, so this node stops
+     * accepting older tokens without waiting for the next reload.
+     */
+    public void observe(String username, int tokenVersion) {
+        if (tokenVersion > 0) {
+            versions.merge(username, tokenVersion, Math::max);
+        }
+    }
+
+        public int currentVersion(String username) {
+        return versions.getOrDefault(username, 0);
+    }
+
+    public boolean isCurrent(String username, int tokenVersion) {
+        return tokenVersion >= currentVersion(username);
+    }
+
+    /**
+     * Invalidates every token issued to the user so far and returns the new token version.
+     */
+    @Transactional
+    public int revoke(String username) {
+        if (userRepository.incrementTokenVersion(username) == 0) {
+            throw new RuntimeException("User not found: " + username);
+        }
+        int version = userRepository.findTokenVersion(username).orElse(0);
+        versions.put(username, version);
+        eventPublisher.publishEvent(new UserChangedEvent(username));
+        return version;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.employee.service;
+
+import com.example.employee.event.UserChangedEvent;
+import com.example.employee.model.User;
+import com.example.employee.repository.UserRepository;
+import com.example.employee.security.VersionedUser;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * User persistence and lookup. Spring Security reaches {@link #loadUserByUsername} through
+ * {@link CachedUserDetailsService}, which is the application's only {@code UserDetailsService}.
+ */
+@Service
+public class UserService {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserService(UserRepository userRepository,
+                       @Qualifier("pooledPasswordEncoder") PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public User register(User user) {
+        // checked before paying for the hash; the unique constraint still rejects a concurrent registration
+        if (userRepository.existsByUsername(user.getUsername())) {
+            throw new RuntimeException("Username already exists");
+        }
+        // hashed before the transaction starts, so no connection is held while BCrypt runs
+        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        if (user.getRoles() == null || user.getRoles().isEmpty()) {
+            user.setRoles(Set.of("ROLE_USER"));
+        }
+        // one transaction so that the outbox row of the change commits with the user
+        return transactionTemplate.execute(status -> {
+            User saved = userRepository.save(user);
+            eventPublisher.publishEvent(new UserChangedEvent(saved.getUsername()));
+            return saved;
+        });
+    }
+
+    /**
+     * Replaces the stored hash with an already encoded password, e.g. after a BCrypt strength upgrade.
+     */
+    @Transactional
+    public User updatePassword(String username, String encodedPassword) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        user.setPassword(encodedPassword);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(username));
+        return saved;
+    }
+
+    @Transactional(readOnly = true)
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+
+        return new org.springframework.security.core.userdetails.User(
+                user.getUsername(),
+                user.getPassword(),
+                authorities(user)
+        );
+    }
+
+    /**
+     * Loads the user a login is checked against, with its token version: a token must not be issued with a
+     * version older than a revoke made on any node. Read-write so it is served by the primary; the query reads the
+     * row itself, not the per-node second-level cache.
+     */
+    @Transactional
+    public VersionedUser loadUserForLogin(String username) throws UsernameNotFoundException {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        return new VersionedUser(user.getUsername(), user.getPassword(), authorities(user), user.getTokenVersion());
+    }
+
+    private static List<SimpleGrantedAuthority> authorities(User user) {
+        return user.getRoles().stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.employee;
+
+import com.example.employee.dto.AuthRequest;
+import com.example.employee.model.Employee;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Subscribes to the change feed over a real connection, since MockMvc neither streams nor performs the async
+ * dispatch that ends an event stream.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "employees.changes.timeout=3s")
+@ActiveProfiles("test")
+class ChangeFeedIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void changes_ShouldStreamCommittedChangesAndResumeFromLastEventId() throws Exception {
+        String token = adminToken();
+        HttpClient client = HttpClient.newHttpClient();
+
+        HttpResponse<java.io.InputStream> stream = client.send(changesRequest(token, null), HttpResponse.BodyHandlers.ofInputStream());
+        assertThat(stream.statusCode()).isEqualTo(200);
+        assertThat(stream.headers().firstValue("Content-Type")).hasValueSatisfying(type -> assertThat(type).startsWith("text/event-stream"));
+
+        long id = createEmployee(token, "Streamed", "streamed@example.com");
+        createEmployee(token, "Missed", "missed@example.com");
+
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream.body(), StandardCharsets.UTF_8))) {
+            // the stream ends by itself after employees.changes.timeout
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        assertThat(lines).contains("event:created");
+        assertThat(lines).anySatisfy(line -> assertThat(line).startsWith("data:").contains("\"id\":" + id).contains("Streamed"));
+        String firstEventId = lines.stream().filter(line -> line.startsWith("id:")).findFirst().orElseThrow().substring(3);
+
+        HttpResponse<java.io.InputStream> resumed = client.send(changesRequest(token, firstEventId), HttpResponse.BodyHandlers.ofInputStream());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resumed.body(), StandardCharsets.UTF_8))) {
+            List<String> replayed = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                replayed.add(line);
+            }
+            assertThat(replayed).anySatisfy(l -> assertThat(l).startsWith("data:").contains("Missed"));
+            assertThat(replayed).noneSatisfy(l -> assertThat(l).contains("Streamed"));
+        }
+
+        HttpResponse<String> denied = client.send(changesRequest(null, null), HttpResponse.BodyHandlers.ofString());
+        assertThat(denied.statusCode()).isEqualTo(HttpStatus.FORBIDDEN.value());
+    }
+
+    private HttpRequest changesRequest(String token, String lastEventId) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/employees/changes"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "text/event-stream");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return request.build();
+    }
+
+    private long createEmployee(String token, String name, String email) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setEmail(email);
+        JsonNode created = restTemplate.exchange("/api/employees", HttpMethod.POST,
+                new HttpEntity<>(employee, headers), JsonNode.class).getBody();
+        return created.get("id").asLong();
+    }
+
+    private String adminToken() {
+        AuthRequest admin = new AuthRequest();
+        admin.setUsername("feed-admin");
+        admin.setPassword("adminpass");
+        admin.setRole("ROLE_ADMIN");
+        assertThat(restTemplate.postForEntity("/api/auth/register", admin, String.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        return restTemplate.postForObject("/api/auth/login", admin, JsonNode.class).get("token").asText();
+    }
+}
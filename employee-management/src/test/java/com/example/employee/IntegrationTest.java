@@ -0,0 +1,375 @@
+package com.example.employee;
+
+import com.example.employee.dto.AuthRequest;
+import com.example.employee.model.Employee;
+import com.example.employee.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class IntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void fullWorkflow_ShouldWork() throws Exception {
+        // 1. Register a new admin user
+        AuthRequest adminRequest = new AuthRequest();
+        adminRequest.setUsername("admin");
+        adminRequest.setPassword("adminpass");
+        adminRequest.setRole("ROLE_ADMIN");
+
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(adminRequest)))
+                .andExpect(status().isOk());
+
+        // 2. Login as admin to get token
+        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(adminRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").exists())
+                .andReturn();
+
+        String loginResponse = loginResult.getResponse().getContentAsString();
+        String token = objectMapper.readTree(loginResponse).get("token").asText();
+
+        // 3. Create an employee using admin token
+        Employee employee = new Employee();
+        employee.setName("John Doe");
+        employee.setEmail("john.doe@example.com");
+        employee.setDepartment("IT");
+        employee.setSalary(75000.0);
+
+        mockMvc.perform(post("/api/employees")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.name").value("John Doe"));
+
+        // 4. List employees using admin token
+        mockMvc.perform(get("/api/employees")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("John Doe"));
+    }
+
+    @Test 
+    void unauthorizedAccess_ShouldBeDenied() throws Exception {
+        Employee employee = new Employee();
+        employee.setName("Test Employee");
+        employee.setEmail("test@example.com");
+
+        // Try to create employee without authentication
+        mockMvc.perform(post("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)))
+                .andExpect(status().isForbidden());
+
+        // Try to list employees without authentication
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void listEmployees_ShouldPaginateWithCursorLinks() throws Exception {
+        String token = adminToken();
+        for (int i = 1; i <= 3; i++) {
+            Employee employee = new Employee();
+            employee.setName("Employee " + i);
+            employee.setEmail("employee" + i + "@example.com");
+            mockMvc.perform(post("/api/employees")
+                    .header("Authorization", "Bearer " + token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(employee)))
+                    .andExpect(status().isCreated());
+        }
+
+        MvcResult firstPage = mockMvc.perform(get("/api/employees").param("limit", "2")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("Employee 1"))
+                .andExpect(header().string("Link", containsString("rel=\"next\"")))
+                .andReturn();
+
+        String link = firstPage.getResponse().getHeader("Link");
+        String next = link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+
+        mockMvc.perform(get(URI.create(next))
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Employee 3"))
+                .andExpect(header().doesNotExist("Link"));
+
+        mockMvc.perform(get("/api/employees").param("page", "0").param("limit", "2")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().string("X-Total-Count", "3"));
+    }
+
+    @Test
+    void conditionalGet_ShouldAnswerNotModifiedUntilDataChanges() throws Exception {
+        String token = adminToken();
+        Employee employee = new Employee();
+        employee.setName("Etag Employee");
+        employee.setEmail("etag@example.com");
+        MvcResult created = mockMvc.perform(post("/api/employees")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        String etag = mockMvc.perform(get("/api/employees/" + id)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/employees/" + id)
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        String listEtag = mockMvc.perform(get("/api/employees").param("limit", "10")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/employees").param("limit", "10")
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", listEtag))
+                .andExpect(status().isNotModified());
+        // a different page of the same collection version is a different representation
+        mockMvc.perform(get("/api/employees").param("limit", "5")
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", listEtag))
+                .andExpect(status().isOk());
+
+        employee.setName("Etag Employee Renamed");
+        mockMvc.perform(put("/api/employees/" + id)
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/employees/" + id)
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Etag Employee Renamed"));
+        mockMvc.perform(get("/api/employees").param("limit", "10")
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", listEtag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void patch_ShouldHonourIfMatch() throws Exception {
+        String token = adminToken();
+        Employee employee = new Employee();
+        employee.setName("Patch Employee");
+        employee.setEmail("patch@example.com");
+        employee.setDepartment("IT");
+        employee.setSalary(50000.0);
+        MvcResult created = mockMvc.perform(post("/api/employees")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        String etag = mockMvc.perform(get("/api/employees/" + id)
+                .header("Authorization", "Bearer " + token))
+                .andReturn().getResponse().getHeader("ETag");
+
+        String newEtag = mockMvc.perform(patch("/api/employees/" + id)
+                .header("Authorization", "Bearer " + token)
+                .header("If-Match", etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"salary\": 60000}"))
+                .andExpect(status().isNoContent())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/employees/" + id)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", newEtag))
+                .andExpect(jsonPath("$.salary").value(60000.0))
+                .andExpect(jsonPath("$.name").value("Patch Employee"))
+                .andExpect(jsonPath("$.department").value("IT"));
+
+        mockMvc.perform(patch("/api/employees/" + id)
+                .header("Authorization", "Bearer " + token)
+                .header("If-Match", etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"salary\": 70000}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch("/api/employees/" + id)
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"department\": \"HR\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.department").value("HR"))
+                .andExpect(jsonPath("$.salary").value(60000.0));
+    }
+
+    @Test
+    void multiGet_ShouldReturnRequestedOrderAndMissingIds() throws Exception {
+        String token = adminToken();
+        long[] ids = new long[2];
+        for (int i = 0; i < 2; i++) {
+            Employee employee = new Employee();
+            employee.setName("Multi " + i);
+            employee.setEmail("multi" + i + "@example.com");
+            MvcResult created = mockMvc.perform(post("/api/employees")
+                    .header("Authorization", "Bearer " + token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(employee)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            ids[i] = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        }
+
+        mockMvc.perform(get("/api/employees").param("ids", ids[1] + "," + 999999 + "," + ids[0])
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].name").value("Multi 1"))
+                .andExpect(jsonPath("$.items[1].name").value("Multi 0"))
+                .andExpect(jsonPath("$.missing[0]").value(999999));
+
+        mockMvc.perform(post("/api/employees/multi-get")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + ids[0] + "," + ids[1] + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].name").value("Multi 0"))
+                .andExpect(jsonPath("$.missing").isEmpty());
+    }
+
+    @Test
+    void fields_ShouldReturnSparseRepresentations() throws Exception {
+        String token = adminToken();
+        long firstId = 0;
+        for (int i = 1; i <= 3; i++) {
+            Employee employee = new Employee();
+            employee.setName("Sparse " + i);
+            employee.setEmail("sparse" + i + "@example.com");
+            employee.setDepartment("IT");
+            MvcResult created = mockMvc.perform(post("/api/employees")
+                    .header("Authorization", "Bearer " + token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(employee)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            if (i == 1) {
+                firstId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+            }
+        }
+
+        MvcResult firstPage = mockMvc.perform(get("/api/employees").param("fields", "name").param("limit", "2")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Sparse 1"))
+                .andExpect(jsonPath("$[0].id").doesNotExist())
+                .andExpect(jsonPath("$[0].email").doesNotExist())
+                .andReturn();
+        String link = firstPage.getResponse().getHeader("Link");
+        mockMvc.perform(get(URI.create(link.substring(link.indexOf('<') + 1, link.indexOf('>'))))
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Sparse 3"));
+
+        mockMvc.perform(get("/api/employees/" + firstId).param("fields", "id,department")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(firstId))
+                .andExpect(jsonPath("$.department").value("IT"))
+                .andExpect(jsonPath("$.name").doesNotExist());
+
+        mockMvc.perform(get("/api/employees").param("fields", "password")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void login_ShouldIssueTheTokenVersionOfTheUserRow() throws Exception {
+        String oldToken = adminToken();
+        // a revoke made on another node: neither this node's version map nor its caches have seen it
+        jdbcTemplate.update("update empmgmt.users set token_version = token_version + 1 where username = 'admin'");
+
+        AuthRequest login = new AuthRequest();
+        login.setUsername("admin");
+        login.setPassword("adminpass");
+        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(login)))
+                .andExpect(status().isOk())
+                .andReturn();
+        String newToken = objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        assertThat(jwtUtil.extractTokenVersion(jwtUtil.getClaims(newToken))).isEqualTo(1);
+        mockMvc.perform(get("/api/employees").header("Authorization", "Bearer " + newToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/employees").header("Authorization", "Bearer " + oldToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private String adminToken() throws Exception {
+        AuthRequest adminRequest = new AuthRequest();
+        adminRequest.setUsername("admin");
+        adminRequest.setPassword("adminpass");
+        adminRequest.setRole("ROLE_ADMIN");
+
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(adminRequest)))
+                .andExpect(status().isOk());
+
+        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(adminRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+    }
+}
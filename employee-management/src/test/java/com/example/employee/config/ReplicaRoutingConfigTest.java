@@ -0,0 +1,91 @@
+package com.example.employee.config;
+
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.service.EmployeeService;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Wiring check with the replica pointing at the primary's database, so reads see the writes.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "replicas.enabled=true",
+        "replicas.nodes[0].url=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void dataSource_ShouldRouteLazilyThroughTheReplicaRouter() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource()).isSameAs(routingDataSource);
+        assertThat(routingDataSource.replicaHealth()).containsEntry("replica-0", true);
+    }
+
+    @Test
+    void writesAndReadOnlyReads_ShouldWorkThroughTheRouter() {
+        Employee employee = new Employee();
+        employee.setName("Routed");
+        employee.setEmail("routed@example.com");
+        Long id = employeeService.create(employee).getId();
+
+        assertThat(employeeService.listAll()).extracting(Employee::getId).containsExactly(id);
+        assertThat(employeeService.estimateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void readOnlyReads_ShouldNotFillTheSecondLevelCache() {
+        Employee employee = new Employee();
+        employee.setName("Cached");
+        employee.setEmail("cached@example.com");
+        Long id = employeeService.create(employee).getId();
+        Cache cache = entityManagerFactory.getCache();
+        cache.evict(Employee.class, id);
+
+        employeeService.findById(id);
+        employeeService.findAllById(List.of(id));
+        assertThat(cache.contains(Employee.class, id)).isFalse();
+
+        // a read-write transaction reads the primary and may cache what it loads
+        transactionTemplate.executeWithoutResult(status -> employeeRepository.findById(id));
+        assertThat(cache.contains(Employee.class, id)).isTrue();
+        assertThat(employeeService.findById(id).getName()).isEqualTo("Cached");
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.employee.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two H2 databases stand in for primary and replica; each holds one row naming itself.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        routing = routing(List.of(node("replica")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldGoToTheReplicaAndOthersToThePrimary() {
+        assertThat(whoAmI(readOnly)).isEqualTo("replica");
+        assertThat(whoAmI(readWrite)).isEqualTo("primary");
+        assertThat(whoAmI()).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldStayOnThePrimaryWithinTheReadYourWritesWindow() {
+        login("alice");
+        whoAmI(readWrite);
+
+        assertThat(whoAmI(readOnly)).isEqualTo("primary");
+
+        login("bob");
+        assertThat(whoAmI(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldFallBackToThePrimaryWhenNoReplicaIsHealthy() {
+        JdbcDataSource missing = new JdbcDataSource();
+        missing.setURL("jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+        routing = routing(List.of(missing));
+
+        routing.checkReplicas();
+
+        assertThat(routing.replicaHealth()).containsEntry("replica-0", false);
+        assertThat(whoAmI(readOnly)).isEqualTo("primary");
+    }
+
+    private ReplicaRoutingDataSource routing(List<DataSource> replicas) {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(node("primary"), replicas,
+                Duration.ofMinutes(1), Duration.ofSeconds(1));
+        dataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(lazy);
+        jdbcTemplate = new JdbcTemplate(lazy);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return dataSource;
+    }
+
+    private String whoAmI(TransactionTemplate transaction) {
+        return transaction.execute(status -> whoAmI());
+    }
+
+    private String whoAmI() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private static void login(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(username, null, "ROLE_USER"));
+    }
+
+    private static DataSource node(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(dataSource).execute("create table node (name varchar(20)); insert into node values ('" + name + "')");
+        return dataSource;
+    }
+}
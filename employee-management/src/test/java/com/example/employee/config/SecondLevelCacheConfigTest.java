@@ -0,0 +1,144 @@
+package com.example.employee.config;
+
+import com.example.employee.dto.MultiGetResult;
+import com.example.employee.model.Employee;
+import com.example.employee.model.User;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.UserRepository;
+import com.example.employee.service.EmployeeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private Employee newEmployee() {
+        Employee employee = new Employee();
+        employee.setName("Cached");
+        employee.setEmail("cached@example.com");
+        employee.setDepartment("IT");
+        employee.setSalary(1000.0);
+        return employee;
+    }
+
+    @Test
+    void findById_ShouldBeServedFromSecondLevelCacheWithoutStatements() {
+        Long id = employeeService.create(newEmployee()).getId();
+        statistics.clear();
+
+        employeeService.findById(id);
+        employeeService.findById(id);
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.EMPLOYEES).getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void update_ShouldRefreshTheCachedEntry() {
+        Long id = employeeService.create(newEmployee()).getId();
+        Employee changed = newEmployee();
+        changed.setName("Renamed");
+
+        employeeService.update(id, changed);
+        statistics.clear();
+
+        assertThat(employeeService.findById(id).getName()).isEqualTo("Renamed");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void delete_ShouldEvictTheCachedEntry() {
+        Long id = employeeService.create(newEmployee()).getId();
+        employeeService.findById(id);
+
+        employeeService.delete(id);
+
+        assertThatThrownBy(() -> employeeService.findById(id))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Employee not found");
+    }
+
+    @Test
+    void findAllById_ShouldQueryOnlyTheCacheMissesInOrder() {
+        Long cached = employeeService.create(newEmployee()).getId();
+        Employee other = newEmployee();
+        other.setEmail("uncached@example.com");
+        Long uncached = employeeService.create(other).getId();
+        entityManagerFactory.getCache().evict(Employee.class, uncached);
+        statistics.clear();
+
+        MultiGetResult result = employeeService.findAllById(List.of(uncached, -1L, cached, uncached));
+
+        assertThat(result.items()).extracting(Employee::getId).containsExactly(uncached, cached);
+        assertThat(result.missing()).containsExactly(-1L);
+        assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.EMPLOYEES).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void userAndRoles_ShouldBeCachedInTheirOwnRegions() {
+        User user = new User();
+        user.setUsername("cached-user");
+        user.setPassword("secret");
+        user.setRoles(Set.of("ROLE_USER"));
+        Long id = userRepository.save(user).getId();
+        userRepository.findById(id);
+        statistics.clear();
+
+        User loaded = userRepository.findById(id).orElseThrow();
+
+        assertThat(loaded.getRoles()).containsExactly("ROLE_USER");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.USERS).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.USER_ROLES).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void regions_ShouldExposeCacheMeters() {
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "hibernate.l2.employees").meters()).isNotEmpty();
+        assertThat(meterRegistry.find("cache.size").tag("cache", "hibernate.l2.users.roles").gauge()).isNotNull();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.employee.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeCursorTest {
+
+    @Test
+    void encodeDecode_ShouldRoundTripIdCursor() {
+        EmployeeCursor cursor = new EmployeeCursor(EmployeeSortKey.ID, Sort.Direction.ASC, 42L, null);
+
+        EmployeeCursor decoded = EmployeeCursor.decode(cursor.encode());
+
+        assertThat(decoded.getSortKey()).isEqualTo(EmployeeSortKey.ID);
+        assertThat(decoded.getDirection()).isEqualTo(Sort.Direction.ASC);
+        assertThat(decoded.getLastId()).isEqualTo(42L);
+        assertThat(decoded.getLastCreatedAt()).isNull();
+    }
+
+    @Test
+    void encodeDecode_ShouldRoundTripCreatedAtCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 10, 14, 20, 0);
+        EmployeeCursor cursor = new EmployeeCursor(EmployeeSortKey.CREATED_AT, Sort.Direction.DESC, 7L, createdAt);
+
+        EmployeeCursor decoded = EmployeeCursor.decode(cursor.encode());
+
+        assertThat(decoded.getSortKey()).isEqualTo(EmployeeSortKey.CREATED_AT);
+        assertThat(decoded.getDirection()).isEqualTo(Sort.Direction.DESC);
+        assertThat(decoded.getLastId()).isEqualTo(7L);
+        assertThat(decoded.getLastCreatedAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void encode_ShouldBeUrlSafe() {
+        EmployeeCursor cursor = new EmployeeCursor(EmployeeSortKey.CREATED_AT, Sort.Direction.DESC, 7L,
+                LocalDateTime.of(2024, 3, 10, 14, 20, 0, 123456789));
+
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void decode_ShouldRejectGarbage() {
+        assertThatThrownBy(() -> EmployeeCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void fromProperty_ShouldRejectUnindexedSortKeys() {
+        assertThat(EmployeeSortKey.fromProperty("createdAt")).isEqualTo(EmployeeSortKey.CREATED_AT);
+        assertThatThrownBy(() -> EmployeeSortKey.fromProperty("salary"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -117,4 +117,15 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(response.getBody()).isEqualTo("Custom error");
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleServiceUnavailable_ShouldReturn503WithRetryAfter() {
+        ServiceUnavailableException exception = new ServiceUnavailableException("Too busy");
+
+        ResponseEntity<?> response = exceptionHandler.handleServiceUnavailable(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+        assertThat(response.getBody()).isEqualTo("Too busy");
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.employee.repository;
 
+import com.example.employee.dto.EmployeeCursor;
+import com.example.employee.dto.EmployeeSearchCriteria;
+import com.example.employee.dto.EmployeeSortKey;
 import com.example.employee.model.Employee;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -230,4 +236,135 @@ class EmployeeRepositoryTest {
         // Then
         assertThat(exists).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findBy_WithKeysetSpecification_ShouldSeekPastCursor() {
+        // Given - two employees share a createdAt so the id tie-breaker matters
+        LocalDateTime t0 = LocalDateTime.of(2024, 1, 1, 9, 0);
+        Employee first = persistEmployee("first@example.com", t0);
+        Employee second = persistEmployee("second@example.com", t0);
+        Employee third = persistEmployee("third@example.com", t0.plusDays(1));
+
+        Sort sort = Sort.by(Sort.Direction.ASC, "createdAt").and(Sort.by(Sort.Direction.ASC, "id"));
+        EmployeeCursor cursor = EmployeeCursor.after(first, EmployeeSortKey.CREATED_AT, Sort.Direction.ASC);
+
+        // When
+        List<Employee> page = employeeRepository.findBy(EmployeeSpecifications.after(cursor),
+                q -> q.sortBy(sort).limit(10).all());
+
+        // Then
+        assertThat(page).extracting(Employee::getId).containsExactly(second.getId(), third.getId());
+    }
+
+    @Test
+    void findBy_WithDescendingIdCursor_ShouldReturnLowerIds() {
+        // Given
+        Employee first = persistEmployee("a@example.com", LocalDateTime.now());
+        Employee second = persistEmployee("b@example.com", LocalDateTime.now());
+        EmployeeCursor cursor = EmployeeCursor.after(second, EmployeeSortKey.ID, Sort.Direction.DESC);
+
+        // When
+        List<Employee> page = employeeRepository.findBy(EmployeeSpecifications.after(cursor),
+                q -> q.sortBy(Sort.by(Sort.Direction.DESC, "id")).limit(10).all());
+
+        // Then
+        assertThat(page).extracting(Employee::getId).containsExactly(first.getId());
+    }
+
+    @Test
+    void estimateCount_ShouldFallBackToExactCountOnH2() {
+        // Given
+        persistEmployee("a@example.com", LocalDateTime.now());
+        persistEmployee("b@example.com", LocalDateTime.now());
+
+        // When & Then
+        assertThat(employeeRepository.estimateCount()).isEqualTo(employeeRepository.count());
+    }
+
+    @Test
+    void findAll_WithSearchSpecification_ShouldCombineFilters() {
+        // Given
+        LocalDateTime t0 = LocalDateTime.of(2024, 1, 1, 9, 0);
+        Employee match = persistEmployee("ann@example.com", "Ann", "IT", 60000.0, t0);
+        persistEmployee("andy@example.com", "Andy", "Sales", 60000.0, t0);
+        persistEmployee("anton@example.com", "Anton", "IT", 90000.0, t0);
+        persistEmployee("anna@example.com", "Anna", "HR", 60000.0, t0.plusDays(10));
+        Employee other = persistEmployee("bob@example.com", "Bob", "HR", 55000.0, t0);
+
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setDepartments(List.of("IT", "HR"));
+        criteria.setMaxSalary(70000.0);
+        criteria.setCreatedTo(t0.plusDays(1));
+        criteria.setNamePrefix("An");
+
+        // When & Then
+        assertThat(employeeRepository.findAll(EmployeeSpecifications.matching(criteria)))
+                .extracting(Employee::getId).containsExactly(match.getId());
+
+        criteria.setNamePrefix(null);
+        assertThat(employeeRepository.findAll(EmployeeSpecifications.matching(criteria)))
+                .extracting(Employee::getId).containsExactlyInAnyOrder(match.getId(), other.getId());
+    }
+
+    @Test
+    void findAll_WithNamePrefix_ShouldMatchWildcardsLiterally() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Employee literal = persistEmployee("p1@example.com", "50%_off", "IT", 1.0, now);
+        persistEmployee("p2@example.com", "50 and more", "IT", 1.0, now);
+
+        // When
+        List<Employee> found = employeeRepository.findAll(EmployeeSpecifications.nameStartsWith("50%_"));
+
+        // Then
+        assertThat(found).extracting(Employee::getId).containsExactly(literal.getId());
+    }
+
+    @Test
+    void findAll_WithEmptyCriteria_ShouldReturnEverything() {
+        // Given
+        persistEmployee("a@example.com", LocalDateTime.now());
+        persistEmployee("b@example.com", LocalDateTime.now());
+
+        // When & Then
+        assertThat(employeeRepository.findAll(EmployeeSpecifications.matching(EmployeeSearchCriteria.none()))).hasSize(2);
+    }
+
+    @Test
+    void findProperties_ShouldSelectOnlyRequestedColumnsWithoutManagingEntities() {
+        LocalDateTime now = LocalDateTime.now();
+        persistEmployee("x@example.com", "Xena", "IT", 70000.0, now);
+        persistEmployee("y@example.com", "Yuri", "HR", 50000.0, now);
+        persistEmployee("z@example.com", "Zoe", "IT", 80000.0, now);
+        entityManager.clear();
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setDepartments(List.of("IT"));
+
+        List<Map<String, Object>> rows = employeeRepository.findProperties(EmployeeSpecifications.matching(criteria),
+                Sort.by(Sort.Direction.DESC, "salary"), 10, List.of("name", "salary"));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).containsExactly(Map.entry("name", "Zoe"), Map.entry("salary", 80000.0));
+        assertThat(rows.get(1).keySet()).containsExactly("name", "salary");
+        assertThat(entityManager.getEntityManager().unwrap(Session.class)
+                .getStatistics().getEntityCount()).isZero();
+    }
+
+    private Employee persistEmployee(String email, String name, String department, Double salary, LocalDateTime createdAt) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setEmail(email);
+        employee.setDepartment(department);
+        employee.setSalary(salary);
+        employee.setCreatedAt(createdAt);
+        return entityManager.persistAndFlush(employee);
+    }
+
+    private Employee persistEmployee(String email, LocalDateTime createdAt) {
+        Employee employee = new Employee();
+        employee.setName(email);
+        employee.setEmail(email);
+        employee.setCreatedAt(createdAt);
+        return entityManager.persistAndFlush(employee);
+    }
+}
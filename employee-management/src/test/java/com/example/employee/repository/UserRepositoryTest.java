@@ -253,4 +253,23 @@ class UserRepositoryTest {
         Optional<User> foundByUsername = userRepository.findByUsername("deleteme");
         assertThat(foundByUsername).isNotPresent();
     }
-}
\ No newline at end of file
+
+    @Test
+    void incrementTokenVersion_ShouldBumpVersionForUser() {
+        // Given
+        User user = new User();
+        user.setUsername("revokeduser");
+        user.setPassword("password123");
+        user.setRoles(Set.of("ROLE_USER"));
+        entityManager.persistAndFlush(user);
+
+        // When
+        int updated = userRepository.incrementTokenVersion("revokeduser");
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(userRepository.findTokenVersion("revokeduser")).contains(1);
+        assertThat(userRepository.findRevokedTokenVersions())
+                .anySatisfy(row -> assertThat(row).containsExactly("revokeduser", 1));
+    }
+}
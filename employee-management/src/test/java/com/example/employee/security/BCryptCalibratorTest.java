@@ -0,0 +1,39 @@
+package com.example.employee.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BCryptCalibratorTest {
+
+    @Test
+    void strengthFor_ShouldDoubleCostPerStepWithinBudget() {
+        // 50ms at strength 10 -> 100ms at 11 -> 200ms at 12 -> 400ms at 13
+        int strength = BCryptCalibrator.strengthFor(Duration.ofMillis(250), Duration.ofMillis(50).toNanos(), 10, 14);
+
+        assertThat(strength).isEqualTo(12);
+    }
+
+    @Test
+    void strengthFor_ShouldNeverGoBelowMinimum() {
+        int strength = BCryptCalibrator.strengthFor(Duration.ofMillis(10), Duration.ofMillis(80).toNanos(), 10, 14);
+
+        assertThat(strength).isEqualTo(10);
+    }
+
+    @Test
+    void strengthFor_ShouldNeverExceedMaximum() {
+        int strength = BCryptCalibrator.strengthFor(Duration.ofSeconds(10), Duration.ofMillis(1).toNanos(), 10, 14);
+
+        assertThat(strength).isEqualTo(14);
+    }
+
+    @Test
+    void calibrate_ShouldReturnStrengthWithinBounds() {
+        int strength = BCryptCalibrator.calibrate(Duration.ofMillis(1), 4, 6);
+
+        assertThat(strength).isBetween(4, 6);
+    }
+}
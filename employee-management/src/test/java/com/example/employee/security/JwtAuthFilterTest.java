@@ -0,0 +1,109 @@
+package com.example.employee.security;
+
+import com.example.employee.service.TokenRevocationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthFilterTest {
+
+    private final String testSecret = "dGhpc2lzYXRlc3RzZWNyZXRrZXl0aGF0c2hvdWxkYmVhdGxlYXN0MjU2Yml0c2xvbmc=";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    private JwtUtil jwtUtil;
+    private UserDetails testUser;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(testSecret, 60_000);
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        testUser = new User("testuser", "password", authorities);
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest requestWithToken(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    @Test
+    void databaseMode_ShouldLoadUserAndAuthenticate() throws Exception {
+        when(tokenRevocationService.isCurrent("testuser", 0)).thenReturn(true);
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(testUser);
+        JwtAuthFilter filter = new JwtAuthFilter(jwtUtil, userDetailsService, tokenRevocationService, PrincipalMode.DATABASE);
+
+        filter.doFilter(requestWithToken(jwtUtil.generateToken(testUser)), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(auth).isNotNull();
+        assertThat(auth.getName()).isEqualTo("testuser");
+        verify(userDetailsService).loadUserByUsername("testuser");
+    }
+
+    @Test
+    void statelessMode_ShouldAuthenticateFromClaimsWithoutUserLookup() throws Exception {
+        when(tokenRevocationService.isCurrent("testuser", 0)).thenReturn(true);
+        JwtAuthFilter filter = new JwtAuthFilter(jwtUtil, userDetailsService, tokenRevocationService, PrincipalMode.STATELESS);
+
+        filter.doFilter(requestWithToken(jwtUtil.generateToken(testUser)), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(auth).isNotNull();
+        assertThat(auth.getName()).isEqualTo("testuser");
+        assertThat(auth.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void revokedToken_ShouldNotAuthenticate() throws Exception {
+        when(tokenRevocationService.isCurrent("testuser", 0)).thenReturn(false);
+        JwtAuthFilter filter = new JwtAuthFilter(jwtUtil, userDetailsService, tokenRevocationService, PrincipalMode.STATELESS);
+
+        filter.doFilter(requestWithToken(jwtUtil.generateToken(testUser)), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void invalidToken_ShouldContinueUnauthenticated() throws Exception {
+        JwtAuthFilter filter = new JwtAuthFilter(jwtUtil, userDetailsService, tokenRevocationService, PrincipalMode.DATABASE);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(requestWithToken("invalid.token.here"), new MockHttpServletResponse(), chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+}
@@ -192,4 +192,71 @@ class JwtUtilTest {
         // When & Then
         assertThrows(Exception.class, () -> new JwtUtil(invalidSecret, testExpirationMs));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getClaims_ShouldServeRepeatedTokenFromCache() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        JwtUtil cachingJwtUtil = new JwtUtil(testSecret, testExpirationMs, cache);
+        String token = cachingJwtUtil.generateToken(testUser);
+
+        // When
+        Claims first = cachingJwtUtil.getClaims(token);
+        Claims second = cachingJwtUtil.getClaims(token);
+
+        // Then
+        assertEquals("testuser", first.getSubject());
+        assertSame(first, second);
+        assertEquals(1, cache.stats().missCount());
+        assertEquals(1, cache.stats().hitCount());
+    }
+
+    @Test
+    void getClaims_WithTamperedToken_ShouldThrowAndNotBeCached() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        JwtUtil cachingJwtUtil = new JwtUtil(testSecret, testExpirationMs, cache);
+        String token = cachingJwtUtil.generateToken(testUser);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        // When & Then
+        assertThrows(JwtException.class, () -> cachingJwtUtil.getClaims(tampered));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void validateClaims_ShouldCheckSubjectWithoutReparsing() {
+        // Given
+        String token = jwtUtil.generateToken(testUser);
+        Claims claims = jwtUtil.getClaims(token);
+        UserDetails otherUser = new User("otheruser", "password", testUser.getAuthorities());
+
+        // When & Then
+        assertTrue(jwtUtil.validateClaims(claims, testUser));
+        assertFalse(jwtUtil.validateClaims(claims, otherUser));
+    }
+
+    @Test
+    void generateToken_WithTokenVersion_ShouldRoundTripVersionAndRoles() {
+        // When
+        String token = jwtUtil.generateToken(testUser, 4);
+        Claims claims = jwtUtil.getClaims(token);
+
+        // Then
+        assertEquals(4, jwtUtil.extractTokenVersion(claims));
+        assertEquals(2, jwtUtil.extractAuthorities(claims).size());
+    }
+
+    @Test
+    void extractAuthorities_WithEmptyRoles_ShouldReturnEmptyList() {
+        // Given
+        UserDetails userWithoutAuthorities = new User("usernoauth", "password", Arrays.asList());
+
+        // When
+        Claims claims = jwtUtil.getClaims(jwtUtil.generateToken(userWithoutAuthorities));
+
+        // Then
+        assertTrue(jwtUtil.extractAuthorities(claims).isEmpty());
+        assertEquals(0, jwtUtil.extractTokenVersion(claims));
+    }
+}
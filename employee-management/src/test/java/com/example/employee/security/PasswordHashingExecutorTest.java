@@ -0,0 +1,75 @@
+package com.example.employee.security;
+
+import com.example.employee.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void execute_ShouldReturnTaskResult() {
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5));
+
+        assertThat(executor.execute(() -> "hashed")).isEqualTo("hashed");
+    }
+
+    @Test
+    void execute_ShouldRethrowRuntimeExceptionsUnwrapped() {
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> executor.execute(() -> {
+            throw new BadCredentialsException("Bad credentials");
+        })).isInstanceOf(BadCredentialsException.class).hasMessage("Bad credentials");
+    }
+
+    @Test
+    void execute_ShouldRejectFast_WhenPoolAndQueueAreFull() throws Exception {
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            started.countDown();
+            release.await();
+            return "first";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> "second"));
+        // give the second task time to occupy the single queue slot
+        Thread.sleep(100);
+
+        assertThatThrownBy(() -> executor.execute(() -> "third"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+    }
+
+    @Test
+    void execute_ShouldFailWithServiceUnavailable_OnTimeout() {
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> executor.execute(() -> {
+            Thread.sleep(1_000);
+            return "late";
+        })).isInstanceOf(ServiceUnavailableException.class);
+    }
+}
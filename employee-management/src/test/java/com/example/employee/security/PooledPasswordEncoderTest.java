@@ -0,0 +1,60 @@
+package com.example.employee.security;
+
+import com.example.employee.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PooledPasswordEncoderTest {
+
+    private final PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void encodeAndMatches_ShouldRunOnTheHashingPool() {
+        List<String> threads = new ArrayList<>();
+        PasswordEncoder recording = new PasswordEncoder() {
+            private final PasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+
+            @Override
+            public String encode(CharSequence rawPassword) {
+                threads.add(Thread.currentThread().getName());
+                return bcrypt.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                threads.add(Thread.currentThread().getName());
+                return bcrypt.matches(rawPassword, encodedPassword);
+            }
+        };
+        PooledPasswordEncoder encoder = new PooledPasswordEncoder(recording, executor);
+
+        String hash = encoder.encode("secret");
+
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(threads).hasSize(3).allMatch(name -> name.startsWith("bcrypt-"));
+    }
+
+    @Test
+    void upgradeEncoding_ShouldNotUseThePool() {
+        executor.shutdown();
+        PooledPasswordEncoder encoder = new PooledPasswordEncoder(new BCryptPasswordEncoder(5), executor);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThatThrownBy(() -> encoder.encode("secret")).isInstanceOf(ServiceUnavailableException.class);
+    }
+}
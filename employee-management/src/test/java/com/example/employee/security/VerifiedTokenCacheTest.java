@@ -0,0 +1,88 @@
+package com.example.employee.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private Claims claimsExpiringIn(long ms) {
+        Claims claims = Jwts.claims().setSubject("testuser");
+        claims.setExpiration(new Date(System.currentTimeMillis() + ms));
+        return claims;
+    }
+
+    @Test
+    void get_ShouldVerifyOnlyOnce_ForRepeatedToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        AtomicInteger verifications = new AtomicInteger();
+        Claims claims = claimsExpiringIn(60_000);
+
+        for (int i = 0; i < 5; i++) {
+            Claims result = cache.get("token-a", t -> {
+                verifications.incrementAndGet();
+                return claims;
+            });
+            assertThat(result.getSubject()).isEqualTo("testuser");
+        }
+
+        assertThat(verifications.get()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(4);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_ShouldNotCacheVerificationFailures() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        AtomicInteger verifications = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> cache.get("bad-token", t -> {
+                verifications.incrementAndGet();
+                throw new MalformedJwtException("bad");
+            })).isInstanceOf(MalformedJwtException.class);
+        }
+
+        assertThat(verifications.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_ShouldReverify_AfterTokenExpiry() throws InterruptedException {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        AtomicInteger verifications = new AtomicInteger();
+        Claims claims = claimsExpiringIn(20);
+
+        cache.get("short-lived", t -> {
+            verifications.incrementAndGet();
+            return claims;
+        });
+        Thread.sleep(50);
+        cache.get("short-lived", t -> {
+            verifications.incrementAndGet();
+            return claims;
+        });
+
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_ShouldEvict_WhenMaxSizeExceeded() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+        for (int i = 0; i < 100; i++) {
+            cache.get("token-" + i, t -> claimsExpiringIn(60_000));
+        }
+        cache.cleanUp();
+
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        assertThat(cache.stats().evictionCount()).isPositive();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.employee.service;
+
+import com.example.employee.event.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachedUserDetailsServiceTest {
+
+    @Mock
+    private UserService userService;
+
+    private CachedUserDetailsService cachedUserDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        cachedUserDetailsService = new CachedUserDetailsService(userService, 100, Duration.ofMinutes(5));
+    }
+
+    private UserDetails user(String password) {
+        return new User("testuser", password, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Test
+    void loadUserByUsername_ShouldHitDelegateOnce_ForRepeatedLookups() {
+        when(userService.loadUserByUsername("testuser")).thenReturn(user("encoded"));
+
+        cachedUserDetailsService.loadUserByUsername("testuser");
+        UserDetails result = cachedUserDetailsService.loadUserByUsername("testuser");
+
+        assertThat(result.getUsername()).isEqualTo("testuser");
+        assertThat(result.getPassword()).isEqualTo("encoded");
+        verify(userService, times(1)).loadUserByUsername("testuser");
+        assertThat(cachedUserDetailsService.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void loadUserByUsername_ShouldReturnCopy_SoErasedCredentialsDoNotLeakIntoCache() {
+        when(userService.loadUserByUsername("testuser")).thenReturn(user("encoded"));
+
+        UserDetails first = cachedUserDetailsService.loadUserByUsername("testuser");
+        ((User) first).eraseCredentials();
+
+        assertThat(cachedUserDetailsService.loadUserByUsername("testuser").getPassword()).isEqualTo("encoded");
+    }
+
+    @Test
+    void onUserChanged_ShouldInvalidateEntry() {
+        when(userService.loadUserByUsername("testuser")).thenReturn(user("old"), user("new"));
+
+        cachedUserDetailsService.loadUserByUsername("testuser");
+        cachedUserDetailsService.onUserChanged(new UserChangedEvent("testuser"));
+        UserDetails result = cachedUserDetailsService.loadUserByUsername("testuser");
+
+        assertThat(result.getPassword()).isEqualTo("new");
+        verify(userService, times(2)).loadUserByUsername("testuser");
+    }
+
+    @Test
+    void loadUserByUsername_ShouldNotCacheMissingUsers() {
+        when(userService.loadUserByUsername("nonexistent"))
+                .thenThrow(new UsernameNotFoundException("User not found: nonexistent"));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> cachedUserDetailsService.loadUserByUsername("nonexistent"))
+                    .isInstanceOf(UsernameNotFoundException.class);
+        }
+        verify(userService, times(2)).loadUserByUsername("nonexistent");
+    }
+
+    @Test
+    void updatePassword_ShouldDelegateAndReturnUserWithNewHash() {
+        UserDetails result = cachedUserDetailsService.updatePassword(user("old"), "rehashed");
+
+        assertThat(result.getPassword()).isEqualTo("rehashed");
+        verify(userService).updatePassword("testuser", "rehashed");
+    }
+}
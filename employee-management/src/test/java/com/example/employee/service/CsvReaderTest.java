@@ -0,0 +1,37 @@
+package com.example.employee.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void next_ShouldHandleQuotesEscapesAndLineEndings() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,\"b,c\",\"say \"\"hi\"\"\"\r\n\"multi\nline\",,x\n"));
+
+        assertThat(reader.next()).containsExactly("a", "b,c", "say \"hi\"");
+        assertThat(reader.getRecordNumber()).isEqualTo(1);
+        assertThat(reader.next()).containsExactly("multi\nline", "", "x");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void next_ShouldReadLastRecordWithoutTrailingNewline() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b"));
+
+        assertThat(reader.next()).containsExactly("a", "b");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void next_ShouldRejectUnterminatedQuote() {
+        CsvReader reader = new CsvReader(new StringReader("\"open,b\n"));
+
+        assertThatThrownBy(reader::next).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.DepartmentAggregate;
+import com.example.employee.dto.EmployeePatch;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.event.EmployeeSnapshot;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DepartmentAggregateServiceTest {
+
+    @Autowired
+    private DepartmentAggregateService aggregateService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+        aggregateService.rebuild();
+    }
+
+    private Employee employee(String email, String department, Double salary) {
+        Employee employee = new Employee();
+        employee.setName(email);
+        employee.setEmail(email);
+        employee.setDepartment(department);
+        employee.setSalary(salary);
+        return employee;
+    }
+
+    @Test
+    void serviceChanges_ShouldUpdateAggregatesIncrementally() {
+        Employee a = employeeService.create(employee("a@example.com", "IT", 100.0));
+        employeeService.create(employee("b@example.com", "IT", 300.0));
+        employeeService.create(employee("c@example.com", "HR", 50.0));
+        employeeService.create(employee("d@example.com", "IT", null));
+
+        DepartmentAggregate it = aggregateService.get("IT");
+        assertThat(it.headcount()).isEqualTo(3);
+        assertThat(it.salaryCount()).isEqualTo(2);
+        assertThat(it.salaryMean()).isEqualTo(200.0);
+        assertThat(it.salaryMin()).isEqualTo(100.0);
+        assertThat(it.salaryMax()).isEqualTo(300.0);
+
+        Employee moved = employee("a@example.com", "HR", 100.0);
+        employeeService.update(a.getId(), moved);
+
+        assertThat(aggregateService.get("IT").salarySum()).isEqualTo(300.0);
+        assertThat(aggregateService.get("IT").exactBounds()).isFalse();
+        assertThat(aggregateService.get("HR").headcount()).isEqualTo(2);
+        assertThat(aggregateService.get("HR").p50()).isEqualTo(50.0);
+    }
+
+    @Test
+    void conditionalPatch_ShouldMoveTheEmployeeBetweenDepartmentsImmediately() {
+        Employee a = employeeService.create(employee("a@example.com", "IT", 100.0));
+        employeeService.create(employee("b@example.com", "IT", 300.0));
+        EmployeePatch patch = new EmployeePatch();
+        patch.setDepartment("HR");
+
+        employeeService.patch(a.getId(), patch, a.getVersion());
+
+        assertThat(aggregateService.get("IT").headcount()).isEqualTo(1);
+        assertThat(aggregateService.get("IT").salarySum()).isEqualTo(300.0);
+        assertThat(aggregateService.get("HR").headcount()).isEqualTo(1);
+        assertThat(aggregateService.get("HR").salarySum()).isEqualTo(100.0);
+    }
+
+    @Test
+    void reconcile_ShouldCorrectDriftFromRowsWrittenWithoutEvents() {
+        employeeService.create(employee("a@example.com", "IT", 100.0));
+        employeeRepository.save(employee("b@example.com", "IT", 200.0));
+        employeeRepository.save(employee("c@example.com", null, 10.0));
+
+        aggregateService.reconcile();
+
+        DepartmentAggregate it = aggregateService.get("IT");
+        assertThat(it.headcount()).isEqualTo(2);
+        assertThat(it.salarySum()).isEqualTo(300.0);
+        assertThat(it.p99()).isEqualTo(200.0);
+        assertThat(aggregateService.get(null).headcount()).isEqualTo(1);
+    }
+
+    @Test
+    void onEmployeeChanged_WithUnknownPreviousState_ShouldRebuildOnNextReconcile() {
+        Employee a = employeeService.create(employee("a@example.com", "IT", 100.0));
+        a.setSalary(500.0);
+        employeeRepository.save(a);
+        aggregateService.onEmployeeChanged(EmployeeChangedEvent.updated(null, EmployeeSnapshot.of(a)));
+
+        aggregateService.reconcile();
+
+        assertThat(aggregateService.get("IT").salarySum()).isEqualTo(500.0);
+        assertThat(aggregateService.get("IT").p50()).isEqualTo(500.0);
+    }
+
+    @Test
+    void get_ShouldThrowForUnknownDepartment() {
+        assertThatThrownBy(() -> aggregateService.get("Nowhere"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Department not found");
+    }
+
+    @Test
+    void accumulatorMerge_ShouldCombineCountsAndSketches() {
+        DepartmentAggregateService.Accumulator node1 = new DepartmentAggregateService.Accumulator(200);
+        DepartmentAggregateService.Accumulator node2 = new DepartmentAggregateService.Accumulator(200);
+        for (int i = 1; i <= 1000; i++) {
+            (i <= 500 ? node1 : node2).add((double) i);
+        }
+        node2.remove(1000.0);
+
+        node1.merge(node2);
+
+        DepartmentAggregate merged = node1.toAggregate("IT");
+        assertThat(merged.salaryCount()).isEqualTo(999);
+        assertThat(merged.p50()).isCloseTo(500.0, within(20.0));
+        assertThat(merged.salaryMin()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.AnalyticsResult;
+import com.example.employee.dto.EmployeeSearchCriteria;
+import com.example.employee.dto.SnapshotFootprint;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeAnalyticsServiceTest {
+
+    @Autowired
+    private EmployeeAnalyticsService analyticsService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void setUp() {
+        List<Employee> employees = new ArrayList<>();
+        employees.add(employee("a", "IT", 100.0, LocalDateTime.of(2024, 1, 5, 9, 0)));
+        employees.add(employee("b", "IT", 300.0, LocalDateTime.of(2024, 1, 20, 9, 0)));
+        employees.add(employee("c", "HR", 50.0, LocalDateTime.of(2024, 3, 1, 9, 0)));
+        employees.add(employee("d", "HR", null, LocalDateTime.of(2024, 3, 2, 9, 0)));
+        employees.add(employee("e", null, 250.0, LocalDateTime.of(2024, 2, 1, 9, 0)));
+        employeeRepository.saveAll(employees);
+        analyticsService.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+        analyticsService.refresh();
+    }
+
+    private Employee employee(String name, String department, Double salary, LocalDateTime createdAt) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setEmail(name + "@example.com");
+        employee.setDepartment(department);
+        employee.setSalary(salary);
+        employee.setCreatedAt(createdAt);
+        return employee;
+    }
+
+    @Test
+    void query_ByDepartment_ShouldAggregateEveryGroupAndTopK() {
+        AnalyticsResult result = analyticsService.query(EmployeeSearchCriteria.none(),
+                EmployeeAnalyticsService.GroupBy.DEPARTMENT, 0, 2);
+
+        assertThat(result.snapshotRows()).isEqualTo(5);
+        assertThat(result.groups()).extracting(AnalyticsResult.Group::key).containsExactlyInAnyOrder(null, "IT", "HR");
+        AnalyticsResult.Group it = result.groups().stream().filter(g -> "IT".equals(g.key())).findFirst().orElseThrow();
+        assertThat(it.count()).isEqualTo(2);
+        assertThat(it.salaryMean()).isEqualTo(200.0);
+        assertThat(it.salaryMax()).isEqualTo(300.0);
+        AnalyticsResult.Group hr = result.groups().stream().filter(g -> "HR".equals(g.key())).findFirst().orElseThrow();
+        assertThat(hr.count()).isEqualTo(2);
+        assertThat(hr.salaryCount()).isEqualTo(1);
+        assertThat(result.top()).extracting(AnalyticsResult.TopEntry::salary).containsExactly(300.0, 250.0);
+    }
+
+    @Test
+    void query_ByMonthWithFilter_ShouldOnlyCountMatchingRows() {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setMinSalary(60.0);
+
+        AnalyticsResult result = analyticsService.query(criteria, EmployeeAnalyticsService.GroupBy.CREATED_MONTH, 0, 0);
+
+        assertThat(result.matchedRows()).isEqualTo(3);
+        assertThat(result.groups()).extracting(AnalyticsResult.Group::key, AnalyticsResult.Group::count)
+                .containsExactly(tuple("2024-01", 2L), tuple("2024-02", 1L));
+        assertThat(result.top()).isEmpty();
+    }
+
+    @Test
+    void query_BySalaryBand_ShouldBucketSalaries() {
+        AnalyticsResult result = analyticsService.query(EmployeeSearchCriteria.none(),
+                EmployeeAnalyticsService.GroupBy.SALARY_BAND, 100, 0);
+
+        assertThat(result.groups()).extracting(AnalyticsResult.Group::key)
+                .containsExactly("[0.0, 100.0)", "[100.0, 200.0)", "[200.0, 300.0)", "[300.0, 400.0)");
+        assertThatThrownBy(() -> analyticsService.query(EmployeeSearchCriteria.none(),
+                EmployeeAnalyticsService.GroupBy.SALARY_BAND, 0.001, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void refreshIfChanged_ShouldPickUpCommittedChanges() {
+        analyticsService.onEmployeeChanged(null);
+        employeeRepository.save(employee("f", "IT", 1.0, LocalDateTime.now()));
+
+        analyticsService.refreshIfChanged();
+
+        assertThat(analyticsService.query(EmployeeSearchCriteria.none(), EmployeeAnalyticsService.GroupBy.DEPARTMENT, 0, 0)
+                .snapshotRows()).isEqualTo(6);
+    }
+
+    @Test
+    void footprint_ShouldBeSmallerThanEntityList() {
+        SnapshotFootprint footprint = analyticsService.footprint();
+
+        assertThat(footprint.rows()).isEqualTo(5);
+        assertThat(footprint.columnarBytes()).isLessThan(footprint.entityListBytesEstimate());
+        assertThat(footprint.ratio()).isGreaterThan(1.0);
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.BulkCreateResult;
+import com.example.employee.dto.BulkItemResult;
+import com.example.employee.dto.BulkMutationResult;
+import com.example.employee.dto.EmployeeBulkMutation;
+import com.example.employee.dto.EmployeeSearchCriteria;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest(properties = "employees.bulk.chunk-size=4")
+@ActiveProfiles("test")
+class EmployeeBulkServiceTest {
+
+    @Autowired
+    private EmployeeBulkService bulkService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentAggregateService aggregateService;
+
+    @Autowired
+    private EmployeeSuggestIndex suggestIndex;
+
+    @Autowired
+    private EmployeeCollectionVersion collectionVersion;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    private Employee employee(String email) {
+        Employee employee = new Employee();
+        employee.setName(email);
+        employee.setEmail(email);
+        employee.setDepartment("IT");
+        employee.setSalary(60000.0);
+        return employee;
+    }
+
+    @Test
+    void createAll_ShouldInsertEveryItemAndAssignIds() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            employees.add(employee("bulk" + i + "@example.com"));
+        }
+
+        BulkCreateResult result = bulkService.createAll(employees);
+
+        assertThat(result.getCreated()).isEqualTo(10);
+        assertThat(result.getFailed()).isZero();
+        assertThat(result.getItems()).extracting(BulkItemResult::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(employeeRepository.count()).isEqualTo(10);
+    }
+
+    @Test
+    void createAll_ShouldReportDuplicateEmailsPerItem() {
+        employeeRepository.save(employee("taken@example.com"));
+        List<Employee> employees = List.of(
+                employee("new1@example.com"),
+                employee("taken@example.com"),
+                employee("new2@example.com"),
+                employee("new1@example.com"));
+
+        BulkCreateResult result = bulkService.createAll(employees);
+
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getItems()).extracting(BulkItemResult::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(result.getItems().get(1).getError()).isEqualTo("Email already exists");
+        assertThat(result.getItems().get(3).getError()).isEqualTo("Duplicate email in request");
+        assertThat(employeeRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void createAll_ShouldRejectOversizedRequests() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 5001; i++) {
+            employees.add(employee("e" + i + "@example.com"));
+        }
+
+        assertThatThrownBy(() -> bulkService.createAll(employees))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deleteAll_ShouldDeleteByIdsInOneStatement() {
+        Employee a = employeeRepository.save(employee("a@example.com"));
+        Employee b = employeeRepository.save(employee("b@example.com"));
+        employeeRepository.save(employee("c@example.com"));
+        EmployeeBulkMutation mutation = new EmployeeBulkMutation();
+        mutation.setIds(List.of(a.getId(), b.getId(), -1L));
+
+        BulkMutationResult result = bulkService.deleteAll(mutation);
+
+        assertThat(result.affected()).isEqualTo(2);
+        assertThat(employeeRepository.findAll()).extracting(Employee::getEmail).containsExactly("c@example.com");
+    }
+
+    @Test
+    void updateAll_ShouldReassignAndAdjustSalariesMatchingFilter() {
+        Employee it = employeeRepository.save(employee("it@example.com"));
+        Employee hr = employee("hr@example.com");
+        hr.setDepartment("HR");
+        hr = employeeRepository.save(hr);
+        // loaded once so the second-level cache holds the old state
+        employeeRepository.findById(it.getId());
+
+        EmployeeSearchCriteria filter = new EmployeeSearchCriteria();
+        filter.setDepartments(List.of("IT"));
+        EmployeeBulkMutation mutation = new EmployeeBulkMutation();
+        mutation.setFilter(filter);
+        mutation.setDepartment("Engineering");
+        mutation.setSalaryPercent(10.0);
+        mutation.setSalaryAmount(500.0);
+
+        BulkMutationResult result = bulkService.updateAll(mutation);
+
+        assertThat(result.affected()).isEqualTo(1);
+        Employee updated = employeeRepository.findById(it.getId()).orElseThrow();
+        assertThat(updated.getDepartment()).isEqualTo("Engineering");
+        assertThat(updated.getSalary()).isCloseTo(66500.0, within(0.001));
+        assertThat(updated.getVersion()).isEqualTo(it.getVersion() + 1);
+        assertThat(employeeRepository.findById(hr.getId()).orElseThrow().getDepartment()).isEqualTo("HR");
+    }
+
+    @Test
+    void updateAll_ShouldStampTheChangedRowsInTheSameStatement() {
+        Employee a = employeeRepository.save(employee("stamp-a@example.com"));
+        Employee b = employeeRepository.save(employee("stamp-b@example.com"));
+        Employee c = employee("stamp-c@example.com");
+        c.setDepartment("HR");
+        c = employeeRepository.save(c);
+        long before = collectionVersion.current();
+        long untouched = changeSeq(c.getId());
+
+        EmployeeSearchCriteria filter = new EmployeeSearchCriteria();
+        filter.setDepartments(List.of("IT"));
+        EmployeeBulkMutation mutation = new EmployeeBulkMutation();
+        mutation.setFilter(filter);
+        mutation.setDepartment("Engineering");
+        bulkService.updateAll(mutation);
+
+        assertThat(collectionVersion.current()).isEqualTo(before + 1);
+        assertThat(changeSeq(a.getId())).isEqualTo(before + 1);
+        assertThat(changeSeq(b.getId())).isEqualTo(before + 1);
+        assertThat(changeSeq(c.getId())).isEqualTo(untouched);
+    }
+
+    private long changeSeq(long id) {
+        return jdbcTemplate.queryForObject("select change_seq from empmgmt.employees where id = ?", Long.class, id);
+    }
+
+    @Test
+    void bulkMutations_ShouldRebuildDerivedIndexesRightAfterCommit() {
+        employeeRepository.save(employee("it@example.com"));
+        aggregateService.rebuild();
+        suggestIndex.rebuild();
+        EmployeeSearchCriteria filter = new EmployeeSearchCriteria();
+        filter.setDepartments(List.of("IT"));
+        EmployeeBulkMutation mutation = new EmployeeBulkMutation();
+        mutation.setFilter(filter);
+        mutation.setDepartment("Engineering");
+
+        bulkService.updateAll(mutation);
+
+        await(() -> aggregateService.getAll().stream().anyMatch(a -> "Engineering".equals(a.department())));
+        assertThat(aggregateService.get("Engineering").headcount()).isEqualTo(1);
+        assertThat(suggestIndex.suggest("it", 10, EmployeeSuggestIndex.Mode.PREFIX)).hasSize(1);
+
+        bulkService.deleteAll(mutationFor("Engineering"));
+
+        await(() -> suggestIndex.suggest("it", 10, EmployeeSuggestIndex.Mode.PREFIX).isEmpty());
+        await(() -> aggregateService.getAll().isEmpty());
+    }
+
+    @Test
+    void bulkMutations_ShouldRequireATarget() {
+        EmployeeBulkMutation mutation = new EmployeeBulkMutation();
+        mutation.setFilter(new EmployeeSearchCriteria());
+        mutation.setSalaryPercent(5.0);
+
+        assertThatThrownBy(() -> bulkService.updateAll(mutation)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bulkService.deleteAll(mutation)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static EmployeeBulkMutation mutationFor(String department) {
+        EmployeeSearchCriteria filter = new EmployeeSearchCriteria();
+        filter.setDepartments(List.of(department));
+        EmployeeBulkMutation mutation = new EmployeeBulkMutation();
+        mutation.setFilter(filter);
+        return mutation;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not met within 5s");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.EmployeeBulkMutation;
+import com.example.employee.model.Employee;
+import com.example.employee.service.EmployeeChangeFeedTest.RecordingEmitter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.example.employee.service.EmployeeChangeFeedTest.await;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeChangeFeedPollingTest {
+
+    @Autowired
+    private EmployeeChangeFeed feed;
+
+    @Autowired
+    private EmployeeCollectionVersion collectionVersion;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeBulkService bulkService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // stands in for another node: it publishes no events of its own and only learns of changes from the table
+    private EmployeeChangeFeed otherNode;
+
+    @BeforeEach
+    void setUp() {
+        otherNode = new EmployeeChangeFeed(jdbcTemplate, collectionVersion, objectMapper, 64, 64, 10,
+                Duration.ofMinutes(1), 2, 2);
+        otherNode.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        otherNode.shutdown();
+        jdbcTemplate.update("delete from empmgmt.employees");
+    }
+
+    private Employee create(String email) {
+        Employee employee = new Employee();
+        employee.setName(email);
+        employee.setEmail(email);
+        employee.setDepartment("IT");
+        employee.setSalary(60000.0);
+        return employeeService.create(employee);
+    }
+
+    @Test
+    void poll_ShouldPublishEveryCommittedChangeInCommitOrder() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        otherNode.subscribe(null, emitter);
+        Employee a = create("a@example.com");
+        Employee b = create("b@example.com");
+
+        otherNode.poll();
+
+        await(() -> emitter.events.size() == 2);
+        assertThat(emitter.events.get(0)).contains("event:created").contains("\"id\":" + a.getId());
+        assertThat(emitter.events.get(1)).contains("event:created").contains("\"id\":" + b.getId());
+
+        EmployeeBulkMutation mutation = new EmployeeBulkMutation();
+        mutation.setIds(List.of(a.getId(), b.getId()));
+        mutation.setDepartment("Sales");
+        bulkService.updateAll(mutation);
+        employeeService.delete(a.getId());
+
+        otherNode.poll();
+
+        // a's update was overtaken by its delete before the poll, which reads the latest state
+        await(() -> emitter.events.size() == 4);
+        assertThat(emitter.events.get(2)).contains("event:updated").contains("\"id\":" + b.getId())
+                .contains("\"department\":\"Sales\"");
+        assertThat(emitter.events.get(3)).contains("event:deleted").contains("\"id\":" + a.getId());
+
+        // the event ids mean the same on every node, so a client can resume on another one; that node may have
+        // polled at other times and read a's update before its delete
+        RecordingEmitter resumed = new RecordingEmitter();
+        await(() -> {
+            feed.poll();
+            return feed.publishedCount() > 0;
+        });
+        feed.subscribe(emitter.ids().get(1), resumed);
+        await(() -> resumed.ids().contains(emitter.ids().get(3)));
+        assertThat(resumed.ids()).contains(emitter.ids().get(2)).endsWith(emitter.ids().get(3))
+                .doesNotContain(emitter.ids().get(0), emitter.ids().get(1));
+    }
+
+    @Test
+    void poll_ShouldCoalesceTheChangesOfARowSinceTheLastPoll() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        otherNode.subscribe(null, emitter);
+        Employee created = create("c@example.com");
+        created.setDepartment("Sales");
+        employeeService.update(created.getId(), created);
+
+        otherNode.poll();
+
+        // the create was not read before the update, so one upsert with the latest state stands for both
+        await(() -> emitter.events.size() == 1);
+        assertThat(emitter.events.get(0)).contains("event:updated").contains("\"id\":" + created.getId())
+                .contains("\"department\":\"Sales\"");
+    }
+}
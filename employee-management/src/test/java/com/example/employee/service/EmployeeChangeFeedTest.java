@@ -0,0 +1,293 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.EmployeeChange;
+import com.example.employee.event.EmployeeSnapshot;
+import com.example.employee.exception.ServiceUnavailableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeChangeFeedTest {
+
+    private EmployeeChangeFeed feed;
+
+    private EmployeeChangeFeed feed(int replaySize, int bufferSize, int maxSubscribers) {
+        return feed(replaySize, bufferSize, maxSubscribers, 8);
+    }
+
+    private EmployeeChangeFeed feed(int replaySize, int bufferSize, int maxSubscribers, int writerThreads) {
+        // changes are published directly instead of polled from the table
+        feed = new EmployeeChangeFeed(null, null, new ObjectMapper().findAndRegisterModules(), replaySize, bufferSize,
+                maxSubscribers, Duration.ofMinutes(1), 1000, writerThreads);
+        return feed;
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    // one transaction per change, numbered like the change clock
+    private void publish(long id, EmployeeChange.Type type) {
+        feed.publish(id, new EmployeeChange(type, id,
+                new EmployeeSnapshot(id, "Employee " + id, "e" + id + "@company.com", "IT", 1.0, LocalDateTime.now())));
+    }
+
+    private void create(long id) {
+        publish(id, EmployeeChange.Type.CREATED);
+    }
+
+    @Test
+    void subscribe_ShouldReceiveChangesPublishedAfterwards() {
+        feed(16, 16, 10);
+        create(1L);
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(null, emitter);
+
+        create(2L);
+        publish(3L, EmployeeChange.Type.UPDATED);
+        publish(4L, EmployeeChange.Type.DELETED);
+
+        await(() -> emitter.events.size() == 3);
+        assertThat(emitter.events.get(0)).contains("event:created").contains("\"id\":2").contains("\"name\":\"Employee 2\"");
+        assertThat(emitter.events.get(1)).contains("event:updated").contains("\"employee\"");
+        assertThat(emitter.events.get(2)).contains("event:deleted").contains("\"id\":4");
+        // ids are the (change_seq, id) position, the same on every node
+        assertThat(emitter.ids()).containsExactly("2-2", "3-3", "4-4");
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ShouldReplayOnlyTheMissedChanges() {
+        feed(16, 16, 10);
+        RecordingEmitter first = new RecordingEmitter();
+        feed.subscribe(null, first);
+        create(1L);
+        create(2L);
+        create(3L);
+        await(() -> first.events.size() == 3);
+
+        RecordingEmitter resumed = new RecordingEmitter();
+        feed.subscribe(first.ids().get(0), resumed);
+        create(4L);
+
+        await(() -> resumed.events.size() == 3);
+        assertThat(resumed.ids()).containsExactly(first.ids().get(1), first.ids().get(2), resumed.ids().get(2));
+        assertThat(resumed.events.get(2)).contains("\"id\":4");
+    }
+
+    @Test
+    void subscribe_WithIdOutsideTheRing_ShouldSendReset() {
+        feed(2, 16, 10);
+        RecordingEmitter first = new RecordingEmitter();
+        feed.subscribe(null, first);
+        for (long id = 1; id <= 5; id++) {
+            create(id);
+        }
+        await(() -> first.events.size() == 5);
+
+        RecordingEmitter tooOld = new RecordingEmitter();
+        feed.subscribe(first.ids().get(0), tooOld);
+        RecordingEmitter unparsable = new RecordingEmitter();
+        feed.subscribe("abc-4", unparsable);
+
+        await(() -> tooOld.events.size() == 1 && unparsable.events.size() == 1);
+        assertThat(tooOld.events.get(0)).contains("event:reset").contains("\"type\":\"RESET\"");
+        // the reset carries the current position, so resuming from it loses nothing
+        assertThat(tooOld.ids()).containsExactly(first.ids().get(4));
+        assertThat(unparsable.events.get(0)).contains("event:reset");
+    }
+
+    @Test
+    void slowSubscriber_ShouldBeEvictedWithoutHoldingBackOthers() throws Exception {
+        feed(16, 2, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter();
+        feed.subscribe(null, slow);
+        feed.subscribe(null, fast);
+
+        for (long id = 1; id <= 10; id++) {
+            create(id);
+            int received = (int) id;
+            // a reader keeping up is never more than one change behind
+            await(() -> fast.events.size() == received);
+        }
+
+        assertThat(feed.evictedCount()).isEqualTo(1);
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(slow.events.size()).isLessThan(10);
+    }
+
+    @Test
+    void subscribe_WithIdThisNodeHasNotReached_ShouldSkipUpToIt() {
+        feed(16, 16, 10);
+        create(1L);
+        RecordingEmitter resumed = new RecordingEmitter();
+        // e.g. resumed here after reading from a node whose poll was ahead of this one
+        feed.subscribe("3-3", resumed);
+
+        create(2L);
+        create(3L);
+        create(4L);
+
+        await(() -> resumed.events.size() == 1);
+        assertThat(resumed.ids()).containsExactly("4-4");
+    }
+
+    @Test
+    void stalledSubscribers_ShouldNotHoldBackOthers() {
+        feed(16, 16, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        List<RecordingEmitter> stalled = List.of(new RecordingEmitter(release), new RecordingEmitter(release),
+                new RecordingEmitter(release), new RecordingEmitter(release), new RecordingEmitter(release));
+        stalled.forEach(emitter -> feed.subscribe(null, emitter));
+        RecordingEmitter reader = new RecordingEmitter();
+        feed.subscribe(null, reader);
+
+        // every stalled client is blocked in a write, each holding one of the writers
+        create(1L);
+
+        await(() -> reader.events.size() == 1);
+        release.countDown();
+    }
+
+    @Test
+    void writers_ShouldStayBoundedWhenMoreSubscribersStallThanThereAreWriters() {
+        feed(16, 16, 10, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        List<RecordingEmitter> stalled = List.of(new RecordingEmitter(release), new RecordingEmitter(release),
+                new RecordingEmitter(release), new RecordingEmitter(release), new RecordingEmitter(release));
+        stalled.forEach(emitter -> feed.subscribe(null, emitter));
+
+        create(1L);
+        release.countDown();
+
+        // the others waited their turn for a writer instead of getting a thread each
+        await(() -> stalled.stream().allMatch(emitter -> emitter.events.size() == 1));
+        assertThat(stalled.stream().flatMap(emitter -> emitter.writers.stream()).distinct()).hasSizeLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void busySubscriber_ShouldTakeTurnsForItsWriter() {
+        feed(16, 1000, 10, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter busy = new RecordingEmitter(release);
+        feed.subscribe(null, busy);
+        for (long id = 1; id <= 200; id++) {
+            create(id);
+        }
+        AtomicInteger busyWrittenFirst = new AtomicInteger(-1);
+        RecordingEmitter other = new RecordingEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                busyWrittenFirst.compareAndSet(-1, busy.events.size());
+                super.send(builder);
+            }
+        };
+        feed.subscribe(null, other);
+
+        release.countDown();
+
+        // the other stream gets the writer after one batch of the busy one, not after its whole backlog
+        await(() -> other.comments.size() == 1);
+        assertThat(busyWrittenFirst.get()).isBetween(1, 64);
+    }
+
+    @Test
+    void subscribe_BeyondMaxSubscribers_ShouldBeRejected() {
+        feed(16, 16, 1);
+        feed.subscribe(null, new RecordingEmitter());
+
+        assertThatThrownBy(() -> feed.subscribe(null, new RecordingEmitter()))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    void heartbeat_ShouldSendCommentToIdleSubscribers() {
+        feed(16, 16, 10);
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(null, emitter);
+        // the first one goes out on subscribe, so the response headers are not held back until the first change
+        await(() -> emitter.comments.size() == 1);
+
+        feed.heartbeat();
+
+        await(() -> emitter.comments.size() == 2);
+        assertThat(emitter.comments.get(1)).startsWith(":heartbeat");
+        assertThat(emitter.events).isEmpty();
+    }
+
+    static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not met within 5s");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Captures sent events and comments as SSE text instead of writing them to a response; optionally blocks every send
+     * until released, like a client that stopped reading.
+     */
+    static class RecordingEmitter extends SseEmitter {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final List<String> comments = new CopyOnWriteArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        final Set<Thread> writers = ConcurrentHashMap.newKeySet();
+        private final CountDownLatch release;
+
+        RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            writers.add(Thread.currentThread());
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            String text = builder.build().stream().map(part -> part.getData().toString()).collect(Collectors.joining());
+            (text.startsWith(":") ? comments : events).add(text);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.countDown();
+        }
+
+        List<String> ids() {
+            return events.stream()
+                    .map(event -> event.substring(3, event.indexOf('\n')))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.employee.service;
+
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeCollectionVersionTest {
+
+    @Autowired
+    private EmployeeCollectionVersion collectionVersion;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    private Employee employee(String email) {
+        Employee employee = new Employee();
+        employee.setName(email);
+        employee.setEmail(email);
+        employee.setDepartment("IT");
+        employee.setSalary(60000.0);
+        return employee;
+    }
+
+    @Test
+    void writingTransaction_ShouldAdvanceTheVersionOnceOnCommit() {
+        long before = collectionVersion.current();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Employee first = employeeService.create(employee("first@example.com"));
+            employeeService.create(employee("second@example.com"));
+            employeeService.delete(first.getId());
+            assertThat(collectionVersion.current()).isEqualTo(before);
+        });
+
+        assertThat(collectionVersion.current()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void rolledBackTransaction_ShouldLeaveTheVersion() {
+        long before = collectionVersion.current();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            employeeService.create(employee("rolled-back@example.com"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(collectionVersion.current()).isEqualTo(before);
+    }
+
+    @Test
+    void etag_ShouldChangeWithWritesCommittedByAnotherNode() {
+        employeeService.create(employee("clock@example.com"));
+        String etag = collectionVersion.etag("/api/employees?limit=10");
+        assertThat(collectionVersion.etag("/api/employees?limit=10")).isEqualTo(etag);
+        assertThat(collectionVersion.etag("/api/employees?limit=5")).isNotEqualTo(etag);
+
+        // what another node's commit leaves behind: only the shared row moves
+        jdbcTemplate.update("update empmgmt.employee_change_clock set seq = seq + 1 where id = 1");
+
+        assertThat(collectionVersion.etag("/api/employees?limit=10")).isNotEqualTo(etag);
+    }
+
+    @Test
+    void writingTransaction_ShouldFailFast_WhenTheClockRowIsMissing() {
+        long seq = collectionVersion.current();
+        jdbcTemplate.update("delete from empmgmt.employee_change_clock");
+        try {
+            assertThatThrownBy(() -> employeeService.create(employee("no-clock@example.com")))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(employeeRepository.count()).isZero();
+        } finally {
+            jdbcTemplate.update("insert into empmgmt.employee_change_clock (id, seq) values (1, ?)", seq);
+        }
+    }
+
+    @Test
+    void seed_ShouldKeepAnExistingClock() {
+        employeeService.create(employee("seeded@example.com"));
+        long seq = collectionVersion.current();
+
+        collectionVersion.seed();
+
+        assertThat(seq).isPositive();
+        assertThat(collectionVersion.current()).isEqualTo(seq);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.employee.service;
+
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeExportServiceTest {
+
+    @Autowired
+    private EmployeeExportService exportService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        for (int i = 1; i <= 25; i++) {
+            Employee employee = new Employee();
+            employee.setName("Employee " + i);
+            employee.setEmail("employee" + i + "@example.com");
+            employee.setDepartment(i % 2 == 0 ? "IT" : "Research, Labs");
+            employee.setSalary(50000.0 + i);
+            employee.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0).plusDays(i));
+            employeeRepository.save(employee);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void export_Ndjson_ShouldWriteOneJsonObjectPerLine() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.export(EmployeeExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(25);
+        assertThat(lines).hasSize(25);
+        assertThat(lines[0]).contains("\"name\":\"Employee 1\"", "\"salary\":50001.0", "\"createdAt\":\"2024-01-02T09:00\"");
+    }
+
+    @Test
+    void export_Csv_ShouldWriteHeaderAndQuoteSpecialCharacters() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.export(EmployeeExportService.Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(25);
+        assertThat(lines[0]).isEqualTo("id,name,email,department,salary,created_at");
+        assertThat(lines[1]).endsWith(",Employee 1,employee1@example.com,\"Research, Labs\",50001.0,2024-01-02T09:00");
+    }
+
+    @Test
+    void export_ShouldAbort_WhenClientDisconnects() {
+        OutputStream brokenClient = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatThrownBy(() -> exportService.export(EmployeeExportService.Format.NDJSON, brokenClient))
+                .isInstanceOf(UncheckedIOException.class);
+        // the connection went back to the pool in a usable state
+        assertThat(exportService.export(EmployeeExportService.Format.CSV, new ByteArrayOutputStream())).isEqualTo(25);
+    }
+
+    @Test
+    void supportsCopy_ShouldBeFalseOnH2() {
+        assertThat(exportService.supportsCopy()).isFalse();
+    }
+
+    @Test
+    void csv_ShouldEscapeQuotesAndNewlines() {
+        assertThat(EmployeeExportService.csv(null)).isEmpty();
+        assertThat(EmployeeExportService.csv("plain")).isEqualTo("plain");
+        assertThat(EmployeeExportService.csv("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(EmployeeExportService.csv("two\nlines")).isEqualTo("\"two\nlines\"");
+    }
+}
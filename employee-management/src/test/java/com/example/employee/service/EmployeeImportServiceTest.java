@@ -0,0 +1,112 @@
+package com.example.employee.service;
+
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "employees.import.batch-size=3")
+@ActiveProfiles("test")
+class EmployeeImportServiceTest {
+
+    @Autowired
+    private EmployeeImportService importService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    private static Path csv(String content) throws IOException {
+        Path file = Files.createTempFile("import-test-", ".csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    void run_ShouldImportValidRowsAndReportRejectedLines() throws IOException {
+        Employee existing = new Employee();
+        existing.setName("Existing");
+        existing.setEmail("existing@example.com");
+        employeeRepository.save(existing);
+
+        Path file = csv("""
+                name,email,department,salary,created_at
+                Alice,alice@example.com,IT,50000,2024-01-02T03:04:05
+                "Smith, Bob",bob@example.com,"R&D",,
+                ,noname@example.com,IT,1,
+                Carol,not-an-email,IT,1,
+                Dave,dave@example.com,IT,-5,
+                Again,alice@example.com,IT,1,
+                Old,existing@example.com,IT,1,
+                """);
+        ImportJob job = new ImportJob("test.csv", 10);
+
+        importService.run(job, file);
+
+        assertThat(job.getState()).isEqualTo(ImportJob.State.COMPLETED);
+        assertThat(job.getLoader()).isEqualTo("jdbc-batch");
+        assertThat(job.getRowsRead()).isEqualTo(7);
+        assertThat(job.getRowsImported()).isEqualTo(2);
+        assertThat(job.getRowsRejected()).isEqualTo(5);
+        assertThat(job.getRejections()).extracting(ImportJob.Rejection::line).containsExactlyInAnyOrder(4L, 5L, 6L, 7L, 8L);
+        assertThat(employeeRepository.findAll()).extracting(Employee::getName)
+                .containsExactlyInAnyOrder("Existing", "Alice", "Smith, Bob");
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    @Test
+    void run_ShouldFailWhenRequiredColumnsAreMissing() throws IOException {
+        ImportJob job = new ImportJob("test.csv", 10);
+
+        importService.run(job, csv("name,department\nAlice,IT\n"));
+
+        assertThat(job.getState()).isEqualTo(ImportJob.State.FAILED);
+        assertThat(job.getError()).contains("email");
+        assertThat(employeeRepository.count()).isZero();
+    }
+
+    @Test
+    void run_ShouldCapReportedRejectionsButCountAll() throws IOException {
+        ImportJob job = new ImportJob("test.csv", 2);
+
+        importService.run(job, csv("name,email\na,x\nb,y\nc,z\n"));
+
+        assertThat(job.getRowsRejected()).isEqualTo(3);
+        assertThat(job.getRejections()).hasSize(2);
+    }
+
+    @Test
+    void submit_ShouldRunInBackgroundAndBeRetrievable() throws Exception {
+        ImportJob job = importService.submit(csv("name,email\nZed,zed@example.com\n"), "zed.csv");
+
+        assertThat(importService.getJob(job.getId())).isSameAs(job);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!job.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(job.getState()).isEqualTo(ImportJob.State.COMPLETED);
+        assertThat(job.getRowsImported()).isEqualTo(1);
+    }
+
+    @Test
+    void getJob_ShouldThrowForUnknownId() {
+        assertThatThrownBy(() -> importService.getJob("missing"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Import job not found");
+    }
+}
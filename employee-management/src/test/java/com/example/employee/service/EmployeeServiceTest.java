@@ -0,0 +1,273 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.EmployeePatch;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.event.EmployeeSnapshot;
+import com.example.employee.exception.PreconditionFailedException;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private EmployeeService employeeService;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = new Employee();
+        employee.setId(1L);
+        employee.setName("John Doe");
+        employee.setEmail("john.doe@example.com");
+        employee.setDepartment("IT");
+        employee.setSalary(75000.0);
+        employee.setCreatedAt(LocalDateTime.now());
+    }
+
+    @Test
+    void create_ShouldReturnSavedEmployee() {
+        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+
+        Employee result = employeeService.create(employee);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getName()).isEqualTo("John Doe");
+        assertThat(result.getEmail()).isEqualTo("john.doe@example.com");
+        verify(employeeRepository).save(employee);
+    }
+
+    @Test
+    void listAll_ShouldReturnAllEmployees() {
+        Employee employee2 = new Employee();
+        employee2.setId(2L);
+        employee2.setName("Jane Smith");
+        employee2.setEmail("jane.smith@example.com");
+
+        List<Employee> expectedEmployees = Arrays.asList(employee, employee2);
+        when(employeeRepository.findAll()).thenReturn(expectedEmployees);
+
+        List<Employee> result = employeeService.listAll();
+
+        assertThat(result).hasSize(2);
+        assertThat(result).containsExactlyInAnyOrder(employee, employee2);
+        verify(employeeRepository).findAll();
+    }
+
+    @Test
+    void findById_ShouldReturnEmployee_WhenEmployeeExists() {
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+
+        Employee result = employeeService.findById(1L);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getName()).isEqualTo("John Doe");
+        verify(employeeRepository).findById(1L);
+    }
+
+    @Test
+    void findById_ShouldThrowException_WhenEmployeeNotFound() {
+        when(employeeRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> employeeService.findById(999L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Employee not found");
+        verify(employeeRepository).findById(999L);
+    }
+
+    @Test
+    void update_ShouldReturnUpdatedEmployee_WhenEmployeeExists() {
+        Employee updatedEmployee = new Employee();
+        updatedEmployee.setName("John Updated");
+        updatedEmployee.setEmail("john.updated@example.com");
+        updatedEmployee.setDepartment("HR");
+        updatedEmployee.setSalary(80000.0);
+
+        Employee savedEmployee = new Employee();
+        savedEmployee.setId(1L);
+        savedEmployee.setName("John Updated");
+        savedEmployee.setEmail("john.updated@example.com");
+        savedEmployee.setDepartment("HR");
+        savedEmployee.setSalary(80000.0);
+
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(employeeRepository.save(any(Employee.class))).thenReturn(savedEmployee);
+
+        Employee result = employeeService.update(1L, updatedEmployee);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getName()).isEqualTo("John Updated");
+        assertThat(result.getEmail()).isEqualTo("john.updated@example.com");
+        assertThat(result.getDepartment()).isEqualTo("HR");
+        assertThat(result.getSalary()).isEqualTo(80000.0);
+        verify(employeeRepository).findById(1L);
+        verify(employeeRepository).save(any(Employee.class));
+    }
+
+    @Test
+    void update_ShouldThrowException_WhenEmployeeNotFound() {
+        Employee updatedEmployee = new Employee();
+        updatedEmployee.setName("John Updated");
+
+        when(employeeRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> employeeService.update(999L, updatedEmployee))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Employee not found");
+        verify(employeeRepository).findById(999L);
+        verify(employeeRepository, never()).save(any(Employee.class));
+    }
+
+    @Test
+    void delete_ShouldSoftDeleteInsteadOfDeletingTheRow() {
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(employeeRepository.softDelete(1L)).thenReturn(1);
+
+        employeeService.delete(1L);
+
+        verify(employeeRepository).softDelete(1L);
+        verify(employeeRepository, never()).deleteById(anyLong());
+    }
+
+    @Test
+    void delete_ShouldDoNothing_WhenEmployeeDoesNotExist() {
+        when(employeeRepository.findById(1L)).thenReturn(Optional.empty());
+
+        employeeService.delete(1L);
+
+        verify(employeeRepository, never()).softDelete(anyLong());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void create_ShouldPublishCreatedEvent() {
+        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+
+        employeeService.create(employee);
+
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof EmployeeChangedEvent e
+                && e.type() == EmployeeChangedEvent.Type.CREATED && e.before() == null && e.after().email().equals("john.doe@example.com")));
+    }
+
+    @Test
+    void update_ShouldPublishBeforeAndAfterState() {
+        Employee updatedEmployee = new Employee();
+        updatedEmployee.setName("John Updated");
+        updatedEmployee.setEmail("john.doe@example.com");
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        employeeService.update(1L, updatedEmployee);
+
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof EmployeeChangedEvent e
+                && e.type() == EmployeeChangedEvent.Type.UPDATED
+                && e.before().name().equals("John Doe") && e.after().name().equals("John Updated")));
+    }
+
+    @Test
+    void delete_ShouldPublishDeletedEvent_WhenEmployeeExists() {
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(employeeRepository.softDelete(1L)).thenReturn(1);
+
+        employeeService.delete(1L);
+
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof EmployeeChangedEvent e
+                && e.type() == EmployeeChangedEvent.Type.DELETED && e.id().equals(1L) && e.after() == null));
+    }
+
+    @Test
+    void update_ShouldRejectStaleVersion() {
+        employee.setVersion(3L);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+
+        assertThatThrownBy(() -> employeeService.update(1L, new Employee(), 2L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(employeeRepository, never()).save(any(Employee.class));
+    }
+
+    @Test
+    void patch_ShouldOnlyChangeGivenFields() {
+        EmployeePatch patch = new EmployeePatch();
+        patch.setSalary(90000.0);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Employee result = employeeService.patch(1L, patch);
+
+        assertThat(result.getSalary()).isEqualTo(90000.0);
+        assertThat(result.getName()).isEqualTo("John Doe");
+        assertThat(result.getDepartment()).isEqualTo("IT");
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof EmployeeChangedEvent e
+                && e.before().salary() == 75000.0 && e.after().salary() == 90000.0));
+    }
+
+    @Test
+    void conditionalPatch_ShouldUpdateWithoutLoading() {
+        EmployeePatch patch = new EmployeePatch();
+        patch.setName("John Patched");
+        EmployeeSnapshot before = new EmployeeSnapshot(1L, "John Doe", "john.doe@example.com", "IT", 75000.0,
+                LocalDateTime.of(2024, 1, 1, 12, 0));
+        when(employeeRepository.patchIfVersion(1L, 4L, patch)).thenReturn(Optional.of(before));
+
+        long version = employeeService.patch(1L, patch, 4L);
+
+        assertThat(version).isEqualTo(5L);
+        verify(employeeRepository, never()).findById(anyLong());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof EmployeeChangedEvent e
+                && e.type() == EmployeeChangedEvent.Type.UPDATED && e.id().equals(1L) && e.before() == before
+                && e.after().name().equals("John Patched") && e.after().department().equals("IT")
+                && e.after().salary() == 75000.0));
+    }
+
+    @Test
+    void conditionalPatch_ShouldFailPrecondition_WhenVersionMovedOn() {
+        EmployeePatch patch = new EmployeePatch();
+        patch.setName("John Patched");
+        when(employeeRepository.patchIfVersion(1L, 4L, patch)).thenReturn(Optional.empty());
+        when(employeeRepository.existsById(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> employeeService.patch(1L, patch, 4L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void conditionalPatch_ShouldReportMissingEmployee() {
+        EmployeePatch patch = new EmployeePatch();
+        patch.setName("John Patched");
+        when(employeeRepository.patchIfVersion(999L, 0L, patch)).thenReturn(Optional.empty());
+        when(employeeRepository.existsById(999L)).thenReturn(false);
+
+        assertThatThrownBy(() -> employeeService.patch(999L, patch, 0L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Employee not found");
+    }
+}
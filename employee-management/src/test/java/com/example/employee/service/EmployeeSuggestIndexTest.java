@@ -0,0 +1,149 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.EmployeeSuggestion;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.event.EmployeeSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeSuggestIndexTest {
+
+    private EmployeeSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeSuggestIndex(null, null, 1000, 0.5);
+        create(1L, "John Smith", "john.smith@company.com");
+        create(2L, "Johanna Berg", "jberg@company.com");
+        create(3L, "Sarah Johnson", "sarah.j@company.com");
+        create(4L, "Michael Chen", "m.chen@company.com");
+    }
+
+    private void create(Long id, String name, String email) {
+        index.onEmployeeChanged(EmployeeChangedEvent.created(snapshot(id, name, email)));
+    }
+
+    private static EmployeeSnapshot snapshot(Long id, String name, String email) {
+        return new EmployeeSnapshot(id, name, email, "IT", 1.0, LocalDateTime.now());
+    }
+
+    private List<Long> ids(List<EmployeeSuggestion> suggestions) {
+        return suggestions.stream().map(EmployeeSuggestion::id).toList();
+    }
+
+    @Test
+    void suggest_Prefix_ShouldMatchWordStartsInNameAndEmail() {
+        assertThat(ids(index.suggest("joh", 10, EmployeeSuggestIndex.Mode.PREFIX))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(index.suggest("jo sm", 10, EmployeeSuggestIndex.Mode.PREFIX))).containsExactly(1L);
+        assertThat(ids(index.suggest("jberg", 10, EmployeeSuggestIndex.Mode.PREFIX))).containsExactly(2L);
+        assertThat(index.suggest("ohn", 10, EmployeeSuggestIndex.Mode.PREFIX)).isEmpty();
+    }
+
+    @Test
+    void suggest_Prefix_ShouldRankNameMatchesAboveEmailOnlyMatches() {
+        create(5L, "Zed Marsh", "jones.k@company.com");
+
+        assertThat(ids(index.suggest("jo", 10, EmployeeSuggestIndex.Mode.PREFIX))).last().isEqualTo(5L);
+    }
+
+    @Test
+    void suggest_ShouldRespectLimit() {
+        assertThat(index.suggest("company", 2, EmployeeSuggestIndex.Mode.PREFIX)).hasSize(2);
+    }
+
+    @Test
+    void suggest_Fuzzy_ShouldMatchInnerFragmentsAndTypos() {
+        assertThat(ids(index.suggest("ohn", 10, EmployeeSuggestIndex.Mode.FUZZY))).contains(1L, 3L);
+        assertThat(ids(index.suggest("jonh", 10, EmployeeSuggestIndex.Mode.FUZZY))).contains(1L);
+        assertThat(index.suggest("xyzzy", 10, EmployeeSuggestIndex.Mode.FUZZY)).isEmpty();
+    }
+
+    @Test
+    void onEmployeeChanged_ShouldApplyUpdatesAndDeletes() {
+        index.onEmployeeChanged(EmployeeChangedEvent.updated(snapshot(1L, "John Smith", "john.smith@company.com"),
+                snapshot(1L, "Jack Smith", "jack.smith@company.com")));
+        index.onEmployeeChanged(EmployeeChangedEvent.deleted(snapshot(4L, "Michael Chen", "m.chen@company.com")));
+
+        assertThat(ids(index.suggest("john", 10, EmployeeSuggestIndex.Mode.PREFIX))).containsExactly(3L);
+        assertThat(ids(index.suggest("jack", 10, EmployeeSuggestIndex.Mode.PREFIX))).containsExactly(1L);
+        assertThat(index.suggest("michael", 10, EmployeeSuggestIndex.Mode.PREFIX)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void onEmployeeChanged_ShouldCompactAfterManyUpdates() {
+        for (int i = 0; i < 5000; i++) {
+            index.onEmployeeChanged(EmployeeChangedEvent.updated(null, snapshot(4L, "Michael Chen " + i, "m.chen@company.com")));
+        }
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(ids(index.suggest("michael", 10, EmployeeSuggestIndex.Mode.PREFIX))).containsExactly(4L);
+        assertThat(ids(index.suggest("4999", 10, EmployeeSuggestIndex.Mode.PREFIX))).containsExactly(4L);
+    }
+
+    @Test
+    void rebuild_ShouldServeLookupsDuringTheScanAndReplayChangesMadeMeanwhile() throws Exception {
+        // the scan still sees Michael Chen and not the employee created while it runs
+        List<Object[]> rows = List.of(new Object[]{1L, "John Smith", "john.smith@company.com"},
+                new Object[]{4L, "Michael Chen", "m.chen@company.com"});
+        List<List<Long>> duringScan = new ArrayList<>();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+            @Override
+            public void query(PreparedStatementCreator psc, RowCallbackHandler rch) {
+                try {
+                    duringScan.add(CompletableFuture.supplyAsync(() -> ids(index.suggest("joh", 10, EmployeeSuggestIndex.Mode.PREFIX)))
+                            .get(5, TimeUnit.SECONDS));
+                    index.onEmployeeChanged(EmployeeChangedEvent.deleted(snapshot(4L, "Michael Chen", "m.chen@company.com")));
+                    index.onEmployeeChanged(EmployeeChangedEvent.created(snapshot(9L, "Michaela Stone", "m.stone@company.com")));
+                    for (Object[] row : rows) {
+                        ResultSet rs = mock(ResultSet.class);
+                        when(rs.getLong(1)).thenReturn((Long) row[0]);
+                        when(rs.getString(2)).thenReturn((String) row[1]);
+                        when(rs.getString(3)).thenReturn((String) row[2]);
+                        rch.processRow(rs);
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        TransactionTemplate transactionTemplate = new TransactionTemplate() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                return action.doInTransaction(null);
+            }
+        };
+        index = new EmployeeSuggestIndex(jdbcTemplate, transactionTemplate, 1000, 0.5);
+        create(2L, "Johanna Berg", "jberg@company.com");
+
+        index.rebuild();
+
+        assertThat(duringScan).containsExactly(List.of(2L));
+        assertThat(ids(index.suggest("mich", 10, EmployeeSuggestIndex.Mode.PREFIX))).containsExactly(9L);
+        assertThat(ids(index.suggest("joh", 10, EmployeeSuggestIndex.Mode.PREFIX))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void trigrams_ShouldBeDistinctAndSorted() {
+        long[] keys = EmployeeSuggestIndex.trigrams(EmployeeSuggestIndex.words("Anna anna"));
+
+        assertThat(keys).hasSize(4).isSorted();
+    }
+}
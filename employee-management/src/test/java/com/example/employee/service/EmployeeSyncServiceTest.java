@@ -0,0 +1,176 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.EmployeeView;
+import com.example.employee.dto.SyncPage;
+import com.example.employee.dto.SyncWatermark;
+import com.example.employee.exception.GoneException;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeSyncServiceTest {
+
+    @Autowired
+    private EmployeeSyncService syncService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // also before each test: other classes sharing the context may leave tombstones behind
+    @BeforeEach
+    @AfterEach
+    void tearDown() {
+        // tombstones are invisible to the repository
+        jdbcTemplate.update("delete from empmgmt.employees");
+    }
+
+    private Employee create(String email) {
+        Employee employee = new Employee();
+        employee.setName(email);
+        employee.setEmail(email);
+        employee.setDepartment("IT");
+        employee.setSalary(60000.0);
+        return employeeService.create(employee);
+    }
+
+    @Test
+    void changesSince_ShouldPageThroughChangesAndReportDeletions() {
+        Employee a = create("a@example.com");
+        Employee b = create("b@example.com");
+        Employee c = create("c@example.com");
+        employeeService.delete(b.getId());
+
+        List<Long> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        SyncWatermark since = null;
+        SyncPage page;
+        do {
+            page = syncService.changesSince(since, 1);
+            page.changed().stream().map(EmployeeView::id).forEach(changed::add);
+            deleted.addAll(page.deleted());
+            since = SyncWatermark.decode(page.next());
+        } while (page.hasMore());
+
+        assertThat(changed).containsExactlyInAnyOrder(a.getId(), c.getId());
+        assertThat(deleted).containsExactly(b.getId());
+
+        SyncPage upToDate = syncService.changesSince(since, 10);
+        assertThat(upToDate.changed()).isEmpty();
+        assertThat(upToDate.deleted()).isEmpty();
+        assertThat(upToDate.hasMore()).isFalse();
+    }
+
+    @Test
+    void changesSince_ShouldReturnOnlyRowsChangedAfterTheWatermark() {
+        Employee a = create("a@example.com");
+        create("b@example.com");
+        SyncWatermark since = SyncWatermark.decode(syncService.changesSince(null, 10).next());
+
+        Employee changed = employeeService.findById(a.getId());
+        changed.setSalary(70000.0);
+        employeeService.update(a.getId(), changed);
+        Employee added = create("c@example.com");
+
+        SyncPage page = syncService.changesSince(since, 10);
+
+        assertThat(page.changed()).extracting(EmployeeView::id).containsExactly(a.getId(), added.getId());
+        assertThat(page.changed().get(0).salary()).isEqualTo(70000.0);
+        assertThat(page.deleted()).isEmpty();
+    }
+
+    @Test
+    void changesSince_ShouldNotSkipAChangeThatCommitsAfterANewerOne() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        // writes its row (and its updated_at) first, but commits last
+        CompletableFuture<Employee> slow = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            Employee employee = create("slow@example.com");
+            entityManager.flush();
+            written.countDown();
+            try {
+                commit.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return employee;
+        }));
+        assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+        Employee fast = create("fast@example.com");
+        SyncPage first = syncService.changesSince(null, 10);
+        commit.countDown();
+        Employee late = slow.get(10, TimeUnit.SECONDS);
+
+        SyncPage second = syncService.changesSince(SyncWatermark.decode(first.next()), 10);
+
+        assertThat(first.changed()).extracting(EmployeeView::id).containsExactly(fast.getId());
+        assertThat(second.changed()).extracting(EmployeeView::id).containsExactly(late.getId());
+        assertThat(second.changed().get(0).updatedAt()).isBefore(first.changed().get(0).updatedAt());
+    }
+
+    @Test
+    void changesSince_WithWatermarkOlderThanTheRetention_ShouldBeGone() {
+        SyncWatermark old = new SyncWatermark(1L, 1L, LocalDateTime.now().minusDays(31));
+
+        assertThatThrownBy(() -> syncService.changesSince(old, 10)).isInstanceOf(GoneException.class);
+    }
+
+    @Test
+    void delete_ShouldHideTheRowAndFreeItsEmail() {
+        Employee a = create("a@example.com");
+
+        employeeService.delete(a.getId());
+
+        assertThat(employeeRepository.findById(a.getId())).isEmpty();
+        assertThat(employeeRepository.count()).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from empmgmt.employees where deleted_at is not null",
+                Long.class)).isEqualTo(1);
+        assertThat(create("a@example.com").getId()).isNotEqualTo(a.getId());
+    }
+
+    @Test
+    void purgeTombstones_ShouldRemoveOnlyTombstonesPastTheRetention() {
+        Employee old = create("old@example.com");
+        Employee recent = create("recent@example.com");
+        employeeService.delete(old.getId());
+        employeeService.delete(recent.getId());
+        jdbcTemplate.update("update empmgmt.employees set deleted_at = ? where id = ?",
+                LocalDateTime.now().minusDays(31), old.getId());
+
+        assertThat(syncService.purgeTombstones()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("select id from empmgmt.employees", Long.class))
+                .containsExactly(recent.getId());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.EmployeeSearchCriteria;
+import com.example.employee.dto.EmployeeSortKey;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Allocation per 200-row page of the JDBC read model against the JPA entity path, measured with the per-thread
+ * allocation counter. Opt-in ({@code mvn -Pbenchmark test}): the figures depend on the JVM and its flags.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeViewAllocationBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeViewAllocationBenchmarkTest.class);
+
+    @Autowired
+    private EmployeeViewService viewService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void setUp() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Employee employee = new Employee();
+            employee.setName("Ann " + i);
+            employee.setEmail("bench" + i + "@example.com");
+            employee.setDepartment("IT");
+            employee.setSalary(40000.0 + i * 100);
+            employee.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0).plusMinutes(i));
+            employees.add(employee);
+        }
+        employeeRepository.saveAll(employees);
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void search_ShouldAllocateLessThanTheEntityPath() {
+        EmployeeSearchCriteria criteria = EmployeeSearchCriteria.none();
+        long entityBytes = allocatedPerCall(() -> employeeService.search(criteria, EmployeeSortKey.ID, Sort.Direction.ASC, null, 200));
+        long viewBytes = allocatedPerCall(() -> viewService.search(criteria, EmployeeSortKey.ID, Sort.Direction.ASC, null, 200));
+
+        log.info("Employee page of 200: entity path {} bytes, view path {} bytes", entityBytes, viewBytes);
+        assertThat(viewBytes).isLessThan(entityBytes);
+    }
+
+    private static long allocatedPerCall(Supplier<?> call) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 50; i++) {
+            call.get();
+        }
+        int rounds = 100;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < rounds; i++) {
+            call.get();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / rounds;
+    }
+}
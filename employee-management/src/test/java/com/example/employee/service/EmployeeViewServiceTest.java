@@ -0,0 +1,128 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.EmployeeCursor;
+import com.example.employee.dto.EmployeeSearchCriteria;
+import com.example.employee.dto.EmployeeSortKey;
+import com.example.employee.dto.EmployeeView;
+import com.example.employee.dto.KeysetPage;
+import com.example.employee.dto.VersionedListing;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeViewServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Autowired
+    private EmployeeViewService viewService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void setUp() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Employee employee = new Employee();
+            employee.setName((i % 2 == 0 ? "Ann " : "Bob ") + i);
+            employee.setEmail("view" + i + "@example.com");
+            employee.setDepartment(i % 3 == 0 ? "IT" : i % 3 == 1 ? "HR" : "Sales");
+            employee.setSalary(40000.0 + i * 100);
+            // pairs of rows share a timestamp so the id tie-break is exercised
+            employee.setCreatedAt(T0.plusMinutes(i / 2));
+            employees.add(employee);
+        }
+        employeeRepository.saveAll(employees);
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void search_ShouldReturnTheSameRowsAndCursorsAsTheJpaPath() {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setDepartments(List.of("IT", "HR"));
+        criteria.setMinSalary(45000.0);
+        criteria.setNamePrefix("Ann");
+
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            for (EmployeeSortKey sortKey : EmployeeSortKey.values()) {
+                EmployeeCursor viewCursor = null;
+                EmployeeCursor jpaCursor = null;
+                do {
+                    KeysetPage<EmployeeView> view = viewService.search(criteria, sortKey, direction, viewCursor, 7);
+                    KeysetPage<Employee> jpa = employeeService.search(criteria, sortKey, direction, jpaCursor, 7);
+                    assertThat(view.getItems()).extracting(EmployeeView::id)
+                            .containsExactlyElementsOf(jpa.getItems().stream().map(Employee::getId).toList());
+                    assertThat(view.hasNext()).isEqualTo(jpa.hasNext());
+                    viewCursor = view.getNextCursor();
+                    jpaCursor = jpa.getNextCursor();
+                } while (viewCursor != null);
+            }
+        }
+    }
+
+    @Test
+    void search_ShouldMapEveryColumn() {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setNamePrefix("Ann 0");
+
+        EmployeeView view = viewService.search(criteria, EmployeeSortKey.ID, Sort.Direction.ASC, null, 10).getItems().get(0);
+
+        assertThat(view.name()).isEqualTo("Ann 0");
+        assertThat(view.email()).isEqualTo("view0@example.com");
+        assertThat(view.department()).isEqualTo("IT");
+        assertThat(view.salary()).isEqualTo(40000.0);
+        assertThat(view.createdAt()).isEqualTo(T0);
+        assertThat(view.version()).isZero();
+    }
+
+    @Test
+    void versioned_ShouldReadTheRowsInTheVersionsReadOnlyTransaction() {
+        AtomicBoolean readOnly = new AtomicBoolean();
+
+        VersionedListing<KeysetPage<EmployeeView>> listing = viewService.versioned("/api/employees", etag -> false, () -> {
+            readOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return viewService.search(EmployeeSearchCriteria.none(), EmployeeSortKey.ID, Sort.Direction.ASC, null, 10);
+        });
+
+        assertThat(readOnly).isTrue();
+        assertThat(listing.notModified()).isFalse();
+        assertThat(listing.etag()).startsWith("\"c-");
+        assertThat(listing.body().getItems()).hasSize(10);
+    }
+
+    @Test
+    void versioned_ShouldNotReadRows_WhenTheTagMatches() {
+        String etag = viewService.versioned("/api/employees", tag -> false, () -> "rows").etag();
+
+        VersionedListing<String> listing = viewService.versioned("/api/employees", etag::equals, () -> {
+            throw new AssertionError("rows read for a 304");
+        });
+
+        assertThat(listing.notModified()).isTrue();
+        assertThat(listing.etag()).isEqualTo(etag);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.employee.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class KllSketchTest {
+
+    @Test
+    void quantile_ShouldStayWithinRankErrorOnUniformData() {
+        KllSketch sketch = new KllSketch(200, new SplittableRandom(42));
+        for (int i = 1; i <= 100_000; i++) {
+            sketch.update(i);
+        }
+
+        assertThat(sketch.getN()).isEqualTo(100_000);
+        assertThat(sketch.quantile(0.5)).isCloseTo(50_000, within(2_000.0));
+        assertThat(sketch.quantile(0.9)).isCloseTo(90_000, within(2_000.0));
+        assertThat(sketch.quantile(0.99)).isCloseTo(99_000, within(2_000.0));
+        assertThat(sketch.retainedValues().length).isLessThan(1_000);
+    }
+
+    @Test
+    void merge_ShouldMatchSingleSketchOverCombinedInput() {
+        KllSketch even = new KllSketch(200, new SplittableRandom(1));
+        KllSketch odd = new KllSketch(200, new SplittableRandom(2));
+        for (int i = 1; i <= 50_000; i++) {
+            (i % 2 == 0 ? even : odd).update(i);
+        }
+
+        even.merge(odd);
+
+        assertThat(even.getN()).isEqualTo(50_000);
+        assertThat(even.quantile(0.5)).isCloseTo(25_000, within(1_000.0));
+        assertThat(even.rank(10_000)).isCloseTo(10_000L, within(1_000L));
+    }
+
+    @Test
+    void quantile_ShouldBeExactWhileNothingWasCompacted() {
+        KllSketch sketch = new KllSketch(200);
+        sketch.update(3);
+        sketch.update(1);
+        sketch.update(2);
+
+        assertThat(sketch.quantile(0)).isEqualTo(1);
+        assertThat(sketch.quantile(0.5)).isEqualTo(2);
+        assertThat(sketch.quantile(1)).isEqualTo(3);
+        assertThat(sketch.rank(2)).isEqualTo(2);
+        assertThat(new KllSketch(200).quantile(0.5)).isNaN();
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.employee.service;
+
+import com.example.employee.dto.EmployeeBulkMutation;
+import com.example.employee.event.OutboxMessage;
+import com.example.employee.model.Employee;
+import com.example.employee.model.OutboxEvent;
+import com.example.employee.model.User;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.OutboxEventRepository;
+import com.example.employee.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@SpringBootTest(properties = {
+        "outbox.batch-size=2",
+        "outbox.max-batches-per-run=2",
+        "outbox.retry.max-attempts=2",
+        "outbox.retry.initial-backoff=0s"
+})
+@ActiveProfiles("test")
+class OutboxDispatcherTest {
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeBulkService bulkService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+        userRepository.deleteAll();
+        outboxRepository.deleteAll();
+        listener.received.clear();
+        listener.failing = false;
+    }
+
+    private Employee create(String email) {
+        Employee employee = new Employee();
+        employee.setName(email);
+        employee.setEmail(email);
+        employee.setDepartment("IT");
+        employee.setSalary(60000.0);
+        return employeeService.create(employee);
+    }
+
+    @Test
+    void mutations_ShouldBeRecordedAndDeliveredInBatches() {
+        Employee created = create("outbox@example.com");
+        employeeService.delete(created.getId());
+        User user = new User();
+        user.setUsername("outbox-user");
+        user.setPassword("secret");
+        userService.register(user);
+        long batches = meterRegistry.get("outbox.dispatch.batch.size").summary().count();
+
+        dispatcher.dispatch();
+
+        assertThat(listener.received).extracting(OutboxMessage::type)
+                .containsExactly("employee.created", "employee.deleted", "user.changed");
+        assertThat(listener.received.get(0).aggregateId()).isEqualTo(String.valueOf(created.getId()));
+        assertThat(listener.received.get(0).payload()).contains("\"email\":\"outbox@example.com\"");
+        assertThat(listener.received.get(2).aggregateId()).isEqualTo("outbox-user");
+        assertThat(outboxRepository.count()).isZero();
+        assertThat(meterRegistry.get("outbox.dispatch.batch.size").summary().count()).isEqualTo(batches + 2);
+        assertThat(meterRegistry.get("outbox.dispatch.lag").timer().count()).isPositive();
+    }
+
+    @Test
+    void dispatch_ShouldStopAfterMaxBatchesPerRun() {
+        for (int i = 0; i < 5; i++) {
+            create("bounded" + i + "@example.com");
+        }
+
+        dispatcher.dispatch();
+
+        assertThat(listener.received).hasSize(4);
+        assertThat(outboxRepository.count()).isEqualTo(1);
+        dispatcher.dispatch();
+        assertThat(listener.received).hasSize(5);
+    }
+
+    @Test
+    void bulkChange_ShouldRecordOperationAndCount() {
+        Employee first = create("bulk1@example.com");
+        Employee second = create("bulk2@example.com");
+        create("bulk3@example.com");
+        dispatcher.dispatch();
+        listener.received.clear();
+        EmployeeBulkMutation mutation = new EmployeeBulkMutation();
+        mutation.setIds(List.of(first.getId(), second.getId()));
+
+        bulkService.deleteAll(mutation);
+        dispatcher.dispatch();
+
+        assertThat(listener.received).extracting(OutboxMessage::type).containsExactly("employee.bulk");
+        assertThat(listener.received.get(0).payload())
+                .contains("\"operation\":\"delete\"")
+                .contains("\"affectedRows\":2");
+    }
+
+    @Test
+    void rolledBackChange_ShouldLeaveNoEvent() {
+        transactionTemplate.executeWithoutResult(status -> {
+            create("rolled-back@example.com");
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void failedDelivery_ShouldBeRetriedAndParkedAfterMaxAttempts() {
+        create("retry@example.com");
+        listener.failing = true;
+        double retries = meterRegistry.get("outbox.dispatch.retries").counter().count();
+
+        assertThat(dispatcher.dispatchBatch()).isZero();
+        OutboxEvent event = outboxRepository.findAll().get(0);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getAvailableAt()).isNotNull();
+        assertThat(event.getLastError()).contains("sink down");
+        assertThat(meterRegistry.get("outbox.dispatch.retries").counter().count()).isEqualTo(retries + 1);
+
+        dispatcher.dispatchBatch();
+        assertThat(outboxRepository.findAll().get(0).getAvailableAt()).isNull();
+        assertThat(outboxRepository.countDeadLettered()).isEqualTo(1);
+
+        listener.failing = false;
+        assertThat(dispatcher.dispatchBatch()).isZero();
+        assertThat(listener.received).isEmpty();
+    }
+
+    @Test
+    void claimDue_ShouldSkipRowsLockedByAnotherDispatcher() throws Exception {
+        // Hibernate has no SKIP LOCKED for H2, where the second claim would wait instead; runs against Postgres
+        assumeTrue(entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect()
+                .supportsSkipLocked(), "dialect without SKIP LOCKED");
+        create("a@example.com");
+        create("b@example.com");
+        create("c@example.com");
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<List<Long>> first = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            List<Long> ids = outboxRepository.claimDue(LocalDateTime.now(), Limit.of(2)).stream()
+                    .map(OutboxEvent::getId).toList();
+            claimed.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ids;
+        }));
+        assertThat(claimed.await(10, TimeUnit.SECONDS)).isTrue();
+        List<Long> second = transactionTemplate.execute(status ->
+                outboxRepository.claimDue(LocalDateTime.now(), Limit.of(10)).stream().map(OutboxEvent::getId).toList());
+        release.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).hasSize(2).doesNotContainAnyElementsOf(second);
+        assertThat(second).hasSize(1);
+    }
+
+    @TestConfiguration
+    static class Listeners {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    static class RecordingListener {
+
+        final List<OutboxMessage> received = new CopyOnWriteArrayList<>();
+        volatile boolean failing;
+
+        @EventListener
+        public void onMessage(OutboxMessage message) {
+            if (failing) {
+                throw new IllegalStateException("sink down");
+            }
+            received.add(message);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.employee.service;
+
+import com.example.employee.event.OutboxMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static OutboxMessage message(long id) {
+        return new OutboxMessage(id, "employee", String.valueOf(id), "employee.updated",
+                "{\"type\":\"UPDATED\",\"id\":" + id + "}", LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+
+    @Test
+    void fileSink_ShouldAppendOneJsonLinePerMessage(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("events/outbox.ndjson");
+        FileOutboxSink sink = new FileOutboxSink(objectMapper, file);
+
+        sink.publish(List.of(message(1), message(2)));
+        sink.publish(List.of(message(3)));
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(1);
+        assertThat(first.get("type").asText()).isEqualTo("employee.updated");
+        // the payload is embedded as JSON, not as an escaped string
+        assertThat(first.get("payload").get("type").asText()).isEqualTo("UPDATED");
+        assertThat(first.get("createdAt").asText()).isEqualTo("2024-01-01T12:00:00");
+    }
+
+    @Test
+    void httpSink_ShouldPostTheBatchAndFailOnErrorStatus() throws Exception {
+        AtomicReference<String> body = new AtomicReference<>();
+        AtomicReference<String> contentType = new AtomicReference<>();
+        AtomicInteger status = new AtomicInteger(204);
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/events", exchange -> {
+            body.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            contentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+            exchange.sendResponseHeaders(status.get(), -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            HttpOutboxSink sink = new HttpOutboxSink(objectMapper,
+                    URI.create("http://localhost:" + server.getAddress().getPort() + "/events"), Duration.ofSeconds(5));
+
+            sink.publish(List.of(message(1), message(2)));
+
+            assertThat(contentType.get()).isEqualTo("application/x-ndjson");
+            assertThat(body.get().split("\n")).hasSize(2);
+            assertThat(objectMapper.readTree(body.get().split("\n")[1]).get("id").asLong()).isEqualTo(2);
+
+            status.set(503);
+            assertThatThrownBy(() -> sink.publish(List.of(message(3))))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("503");
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.employee.service;
+
+import com.example.employee.event.UserChangedEvent;
+import com.example.employee.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TokenRevocationService tokenRevocationService;
+
+    @Test
+    void currentVersion_ShouldDefaultToZero_ForUnrevokedUser() {
+        assertThat(tokenRevocationService.currentVersion("testuser")).isZero();
+        assertThat(tokenRevocationService.isCurrent("testuser", 0)).isTrue();
+    }
+
+    @Test
+    void reload_ShouldLoadRevokedVersionsFromRepository() {
+        List<Object[]> rows = List.<Object[]>of(new Object[]{"testuser", 3});
+        when(userRepository.findRevokedTokenVersions()).thenReturn(rows);
+
+        tokenRevocationService.reload();
+
+        assertThat(tokenRevocationService.currentVersion("testuser")).isEqualTo(3);
+        assertThat(tokenRevocationService.isCurrent("testuser", 2)).isFalse();
+        assertThat(tokenRevocationService.isCurrent("testuser", 3)).isTrue();
+    }
+
+    @Test
+    void reload_ShouldNotLowerAVersionRevokedWhileItRan() {
+        when(userRepository.incrementTokenVersion("testuser")).thenReturn(1);
+        when(userRepository.findTokenVersion("testuser")).thenReturn(Optional.of(2));
+        tokenRevocationService.revoke("testuser");
+        List<Object[]> stale = List.<Object[]>of(new Object[]{"testuser", 1}, new Object[]{"other", 5});
+        when(userRepository.findRevokedTokenVersions()).thenReturn(stale);
+
+        tokenRevocationService.reload();
+
+        assertThat(tokenRevocationService.currentVersion("testuser")).isEqualTo(2);
+        assertThat(tokenRevocationService.currentVersion("other")).isEqualTo(5);
+    }
+
+    @Test
+    void observe_ShouldOnlyRaiseTheVersion() {
+        tokenRevocationService.observe("testuser", 2);
+        tokenRevocationService.observe("testuser", 1);
+        tokenRevocationService.observe("other", 0);
+
+        assertThat(tokenRevocationService.currentVersion("testuser")).isEqualTo(2);
+        assertThat(tokenRevocationService.isCurrent("testuser", 1)).isFalse();
+        assertThat(tokenRevocationService.currentVersion("other")).isZero();
+    }
+
+    @Test
+    void revoke_ShouldInvalidateOlderTokens() {
+        when(userRepository.incrementTokenVersion("testuser")).thenReturn(1);
+        when(userRepository.findTokenVersion("testuser")).thenReturn(Optional.of(1));
+
+        int version = tokenRevocationService.revoke("testuser");
+
+        assertThat(version).isEqualTo(1);
+        assertThat(tokenRevocationService.isCurrent("testuser", 0)).isFalse();
+        assertThat(tokenRevocationService.isCurrent("testuser", 1)).isTrue();
+        verify(eventPublisher).publishEvent(new UserChangedEvent("testuser"));
+    }
+
+    @Test
+    void revoke_ShouldThrowException_WhenUserNotFound() {
+        when(userRepository.incrementTokenVersion("nonexistent")).thenReturn(0);
+
+        assertThatThrownBy(() -> tokenRevocationService.revoke("nonexistent"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("User not found: nonexistent");
+        verify(userRepository, never()).findTokenVersion(anyString());
+        verifyNoInteractions(eventPublisher);
+    }
+}
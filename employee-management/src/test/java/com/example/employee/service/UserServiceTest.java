@@ -1,7 +1,9 @@
 package com.example.employee.service;
 
+import com.example.employee.event.UserChangedEvent;
 import com.example.employee.model.User;
 import com.example.employee.repository.UserRepository;
+import com.example.employee.security.VersionedUser;
 import com.example.employee.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,9 +11,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 import java.util.Set;
@@ -31,6 +36,12 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private UserService userService;
 
@@ -43,6 +54,8 @@ class UserServiceTest {
         user.setUsername("testuser");
         user.setPassword("password");
         user.setRoles(Set.of("ROLE_USER"));
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
     @Test
@@ -68,6 +81,7 @@ class UserServiceTest {
         verify(userRepository).existsByUsername("testuser");
         verify(passwordEncoder).encode("password");
         verify(userRepository).save(any(User.class));
+        verify(eventPublisher).publishEvent(new UserChangedEvent("testuser"));
     }
 
     @Test
@@ -137,6 +151,19 @@ class UserServiceTest {
         verify(userRepository).findByUsername("testuser");
     }
 
+    @Test
+    void loadUserForLogin_ShouldCarryTheTokenVersionOfTheRow() {
+        user.setTokenVersion(3);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+
+        VersionedUser result = userService.loadUserForLogin("testuser");
+
+        assertThat(result.getUsername()).isEqualTo("testuser");
+        assertThat(result.getPassword()).isEqualTo("password");
+        assertThat(result.getTokenVersion()).isEqualTo(3);
+        assertThat(result.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
     @Test
     void loadUserByUsername_ShouldThrowException_WhenUserNotFound() {
         when(userRepository.findByUsername("nonexistent")).thenReturn(Optional.empty());
@@ -161,4 +188,15 @@ class UserServiceTest {
         assertThat(result.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"))).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void updatePassword_ShouldStoreNewHashAndPublishChange() {
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        User result = userService.updatePassword("testuser", "rehashed");
+
+        assertThat(result.getPassword()).isEqualTo("rehashed");
+        verify(eventPublisher).publishEvent(new UserChangedEvent("testuser"));
+    }
+}
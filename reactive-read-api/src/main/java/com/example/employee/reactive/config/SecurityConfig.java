@@ -0,0 +1,43 @@
+package com.example.employee.reactive.config;
+
+import com.example.employee.reactive.security.JwtAuthWebFilter;
+import com.example.employee.reactive.security.JwtVerifier;
+import com.example.employee.reactive.security.TokenVersionLookup;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+@Configuration
+@EnableWebFluxSecurity
+public class SecurityConfig {
+
+    /**
+     * Read-only and stateless: tokens are issued by the servlet application, nothing is kept in a session, and
+     * unauthenticated requests get 403 like they do there.
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, JwtVerifier jwtVerifier,
+                                                         TokenVersionLookup tokenVersionLookup) {
+        return http
+                .csrf(csrf -> csrf.disable())
+                .httpBasic(basic -> basic.disable())
+                .formLogin(form -> form.disable())
+                .logout(logout -> logout.disable())
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(auth -> auth
+                        .pathMatchers("/actuator/health").permitAll()
+                        .pathMatchers(HttpMethod.GET, "/api/employees", "/api/employees/**").hasAnyRole("ADMIN", "USER")
+                        .anyExchange().denyAll()
+                )
+                .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN)))
+                .addFilterAt(new JwtAuthWebFilter(jwtVerifier, tokenVersionLookup), SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+}
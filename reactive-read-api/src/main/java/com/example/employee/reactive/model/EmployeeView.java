@@ -0,0 +1,14 @@
+package com.example.employee.reactive.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row of {@code empmgmt.employees}. Serializes like the servlet application's {@code Employee}.
+ */
+@Table(schema = "empmgmt", name = "employees")
+public record EmployeeView(@Id Long id, String name, String email, String department, Double salary,
+                           LocalDateTime createdAt, Long version) {
+}
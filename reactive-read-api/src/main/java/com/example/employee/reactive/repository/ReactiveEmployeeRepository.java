@@ -0,0 +1,7 @@
+package com.example.employee.reactive.repository;
+
+import com.example.employee.reactive.model.EmployeeView;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+public interface ReactiveEmployeeRepository extends ReactiveCrudRepository<EmployeeView, Long>, ReactiveEmployeeRepositoryCustom {
+}
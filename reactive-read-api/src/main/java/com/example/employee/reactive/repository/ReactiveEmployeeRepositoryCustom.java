@@ -0,0 +1,26 @@
+package com.example.employee.reactive.repository;
+
+import com.example.employee.reactive.model.EmployeeView;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ReactiveEmployeeRepositoryCustom {
+
+    /**
+     * Employees with an id greater than {@code afterId}, in id order, optionally restricted to {@code departments}
+     * and to names starting with {@code namePrefix}; {@code limit <= 0} streams every matching row.
+     * <p>
+     * Rows are read with one keyset query of at most {@code pageSize} rows per page, the next page only once the
+     * subscriber has asked for more than the current one holds. Each page is read completely before it is emitted,
+     * so a connection is held for one page query at a time and never while the subscriber is slow.
+     */
+    Flux<EmployeeView> findAfter(long afterId, List<String> departments, String namePrefix, int limit, int pageSize);
+
+    /**
+     * The employee with the given id unless it has been deleted; deleted rows stay behind as sync tombstones for a
+     * while, so {@code findById} would still find them.
+     */
+    Mono<EmployeeView> findLiveById(long id);
+}
@@ -0,0 +1,110 @@
+package com.example.employee.reactive.repository;
+
+import com.example.employee.reactive.model.EmployeeView;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ReactiveEmployeeRepositoryImpl implements ReactiveEmployeeRepositoryCustom {
+
+    private final R2dbcEntityTemplate template;
+
+    public ReactiveEmployeeRepositoryImpl(R2dbcEntityTemplate template) {
+        this.template = template;
+    }
+
+    @Override
+    public Flux<EmployeeView> findAfter(long afterId, List<String> departments, String namePrefix, int limit,
+                                        int pageSize) {
+        return Flux.defer(() -> {
+            Keyset keyset = new Keyset(afterId, limit > 0 ? limit : Long.MAX_VALUE);
+            // concatMap without prefetch subscribes to the next page as soon as the previous one is done, whether
+            // or not the subscriber wants more rows, so each page only runs its query on the first request
+            return Flux.<Keyset>generate(sink -> {
+                        if (keyset.exhausted()) {
+                            sink.complete();
+                        } else {
+                            sink.next(keyset);
+                        }
+                    })
+                    .concatMap(next -> page(next, departments, namePrefix, pageSize), 0);
+        });
+    }
+
+    /**
+     * The next page of the keyset, queried when it is first requested: subscribing to a query takes a connection,
+     * and collecting the rows before emitting them returns it before they are written out.
+     */
+    private Flux<EmployeeView> page(Keyset keyset, List<String> departments, String namePrefix, int pageSize) {
+        int size = (int) Math.min(pageSize, keyset.remaining);
+        Query query = query(keyset.afterId, departments, namePrefix, size);
+        return Flux.create(sink -> {
+            AtomicBoolean started = new AtomicBoolean();
+            sink.onRequest(n -> {
+                if (started.compareAndSet(false, true)) {
+                    sink.onDispose(template.select(query, EmployeeView.class)
+                            .collectList()
+                            .subscribe(rows -> {
+                                keyset.advance(rows, size);
+                                rows.forEach(sink::next);
+                                sink.complete();
+                            }, sink::error));
+                }
+            });
+        });
+    }
+
+    private static Query query(long afterId, List<String> departments, String namePrefix, int size) {
+        // same predicates as the servlet search, so the department and name_prefix indexes apply here too
+        Criteria criteria = Criteria.where("id").greaterThan(afterId).and("deleted_at").isNull();
+        if (departments != null && !departments.isEmpty()) {
+            criteria = criteria.and("department").in(departments);
+        }
+        if (namePrefix != null && !namePrefix.isBlank()) {
+            criteria = criteria.and("name").like(escapeLike(namePrefix.trim()) + "%");
+        }
+        return Query.query(criteria).sort(Sort.by("id")).limit(size);
+    }
+
+    @Override
+    public Mono<EmployeeView> findLiveById(long id) {
+        return template.selectOne(Query.query(Criteria.where("id").is(id).and("deleted_at").isNull()), EmployeeView.class);
+    }
+
+    /**
+     * Position of a paged listing: the last id read and how many rows may still be returned.
+     */
+    private static final class Keyset {
+
+        private long afterId;
+        private long remaining;
+        private boolean lastPage;
+
+        Keyset(long afterId, long remaining) {
+            this.afterId = afterId;
+            this.remaining = remaining;
+        }
+
+        boolean exhausted() {
+            return lastPage || remaining <= 0;
+        }
+
+        void advance(List<EmployeeView> rows, int requested) {
+            remaining -= rows.size();
+            lastPage = rows.size() < requested;
+            if (!rows.isEmpty()) {
+                afterId = rows.get(rows.size() - 1).id();
+            }
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.employee.reactive.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of the servlet {@code JwtAuthFilter} in stateless principal mode: the principal is rebuilt
+ * from the verified subject and roles claims, and the only I/O is the (cached, non-blocking) token-version check.
+ * Requests without a valid token continue unauthenticated and are rejected by the authorization rules.
+ */
+public class JwtAuthWebFilter implements WebFilter {
+
+    private final JwtVerifier jwtVerifier;
+    private final TokenVersionLookup tokenVersionLookup;
+
+    public JwtAuthWebFilter(JwtVerifier jwtVerifier, TokenVersionLookup tokenVersionLookup) {
+        this.jwtVerifier = jwtVerifier;
+        this.tokenVersionLookup = tokenVersionLookup;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+
+        final Claims claims;
+        try {
+            claims = jwtVerifier.getClaims(authHeader.substring(7));
+        } catch (JwtException | IllegalArgumentException e) {
+            return chain.filter(exchange);
+        }
+
+        final String username = claims.getSubject();
+        if (username == null || username.isEmpty()) {
+            return chain.filter(exchange);
+        }
+        return tokenVersionLookup.isCurrent(username, jwtVerifier.extractTokenVersion(claims))
+                .flatMap(current -> {
+                    if (!current) {
+                        return chain.filter(exchange);
+                    }
+                    UserDetails userDetails = new User(username, "", jwtVerifier.extractAuthorities(claims));
+                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                            userDetails, null, userDetails.getAuthorities());
+                    return chain.filter(exchange)
+                            .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authToken));
+                });
+    }
+}
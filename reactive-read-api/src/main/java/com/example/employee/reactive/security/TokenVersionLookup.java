@@ -0,0 +1,52 @@
+package com.example.employee.reactive.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Current token version per user, read from {@code empmgmt.users.token_version} without blocking.
+ * Results are cached for {@code jwt.revocation.refresh}, so a revocation made through the servlet application
+ * takes effect here within that window. Unknown users are at version 0, as in {@code TokenRevocationService}.
+ */
+@Component
+public class TokenVersionLookup {
+
+    private static final String SELECT_VERSION = "select token_version from empmgmt.users where username = :username";
+
+    private final DatabaseClient databaseClient;
+    private final AsyncCache<String, Integer> versions;
+
+    public TokenVersionLookup(DatabaseClient databaseClient,
+                              @Value("${jwt.revocation.refresh:30s}") Duration refresh,
+                              @Value("${jwt.revocation.max-size:50000}") long maxSize) {
+        this.databaseClient = databaseClient;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(refresh)
+                .buildAsync();
+    }
+
+    public Mono<Boolean> isCurrent(String username, int tokenVersion) {
+        // concurrent requests of the same user share one in-flight query
+        return Mono.fromFuture(() -> versions.get(username, (key, executor) -> load(key).toFuture()))
+                .map(current -> tokenVersion >= current);
+    }
+
+    public void invalidateAll() {
+        versions.synchronous().invalidateAll();
+    }
+
+    private Mono<Integer> load(String username) {
+        return databaseClient.sql(SELECT_VERSION)
+                .bind("username", username)
+                .map(row -> row.get(0, Integer.class))
+                .first()
+                .defaultIfEmpty(0);
+    }
+}
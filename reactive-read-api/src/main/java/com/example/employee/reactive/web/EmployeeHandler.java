@@ -0,0 +1,95 @@
+package com.example.employee.reactive.web;
+
+import com.example.employee.reactive.model.EmployeeView;
+import com.example.employee.reactive.repository.ReactiveEmployeeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Employee read endpoints. Listings are written out as the client consumes them and read from R2DBC in keyset pages
+ * of {@code employees.stream.page-size} rows, each query returning its connection before the rows are written: a slow
+ * client holds neither a thread nor a connection, and its backlog is bounded by one page in memory plus the socket
+ * buffers. {@code Accept: application/x-ndjson} streams one JSON object per line, anything else gets a JSON
+ * array that is still encoded element by element.
+ */
+@Component
+public class EmployeeHandler {
+
+    private final ReactiveEmployeeRepository repository;
+    private final int pageSize;
+
+    public EmployeeHandler(ReactiveEmployeeRepository repository,
+                           @Value("${employees.stream.page-size:256}") int pageSize) {
+        this.repository = repository;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * {@code GET /api/employees?after=&limit=}: employees in id order with an id greater than {@code after}
+     * (keyset continuation), at most {@code limit} of them, or all remaining ones without a limit.
+     */
+    public Mono<ServerResponse> list(ServerRequest request) {
+        return stream(request, repository.findAfter(after(request), null, null, limit(request), pageSize));
+    }
+
+    /**
+     * {@code GET /api/employees/search?department=&name=&after=&limit=}: {@code department} may be repeated for an
+     * IN list, {@code name} is a case-sensitive prefix.
+     */
+    public Mono<ServerResponse> search(ServerRequest request) {
+        List<String> departments = request.queryParams().get("department");
+        String name = request.queryParam("name").orElse(null);
+        return stream(request, repository.findAfter(after(request), departments, name, limit(request), pageSize));
+    }
+
+    public Mono<ServerResponse> get(ServerRequest request) {
+        long id = parseLong(request.pathVariable("id"), "id");
+        return repository.findLiveById(id)
+                .flatMap(employee -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(employee))
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found")));
+    }
+
+    private Mono<ServerResponse> stream(ServerRequest request, Flux<EmployeeView> employees) {
+        MediaType contentType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok().contentType(contentType).body(employees, EmployeeView.class);
+    }
+
+    private static long after(ServerRequest request) {
+        return request.queryParam("after").map(value -> parseLong(value, "after")).orElse(0L);
+    }
+
+    private static int limit(ServerRequest request) {
+        int limit = request.queryParam("limit").map(value -> parseInt(value, "limit")).orElse(0);
+        if (limit < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must not be negative");
+        }
+        return limit;
+    }
+
+    private static int parseInt(String value, String name) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, name + " must be a number");
+        }
+    }
+
+    private static long parseLong(String value, String name) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, name + " must be a number");
+        }
+    }
+}
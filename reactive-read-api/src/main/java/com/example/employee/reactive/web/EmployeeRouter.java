@@ -0,0 +1,20 @@
+package com.example.employee.reactive.web;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@Configuration
+public class EmployeeRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> employeeRoutes(EmployeeHandler handler) {
+        return route(GET("/api/employees/search"), handler::search)
+                .andRoute(GET("/api/employees/{id}"), handler::get)
+                .andRoute(GET("/api/employees"), handler::list);
+    }
+}
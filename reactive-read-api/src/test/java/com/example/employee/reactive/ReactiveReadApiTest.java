@@ -0,0 +1,292 @@
+package com.example.employee.reactive;
+
+import com.example.employee.reactive.model.EmployeeView;
+import com.example.employee.reactive.repository.ReactiveEmployeeRepository;
+import com.example.employee.reactive.security.TokenVersionLookup;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "employees.stream.page-size=4",
+        "spring.r2dbc.pool.initial-size=1",
+        "spring.r2dbc.pool.max-size=1",
+        "spring.r2dbc.pool.max-acquire-time=5s"
+})
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class ReactiveReadApiTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ReactiveEmployeeRepository repository;
+
+    @Autowired
+    private TokenVersionLookup tokenVersionLookup;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("delete from empmgmt.employees").then()
+                .then(databaseClient.sql("delete from empmgmt.users").then())
+                .block();
+        Flux.range(1, 30)
+                .concatMap(i -> databaseClient.sql("insert into empmgmt.employees (id, name, email, department, salary, created_at, version)"
+                                + " values (:id, :name, :email, :department, :salary, :createdAt, 0)")
+                        .bind("id", (long) i)
+                        .bind("name", (i % 2 == 0 ? "Alice " : "Bob ") + i)
+                        .bind("email", "e" + i + "@example.com")
+                        .bind("department", i % 3 == 0 ? "Sales" : "IT")
+                        .bind("salary", 50000.0 + i)
+                        .bind("createdAt", LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(i))
+                        .then())
+                .then(databaseClient.sql("insert into empmgmt.users (username, password, token_version) values ('alice', 'x', 0)").then())
+                .block();
+        tokenVersionLookup.invalidateAll();
+    }
+
+    @Test
+    void list_WithoutToken_ShouldBeForbidden() {
+        webTestClient.get().uri("/api/employees")
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    void list_WithTamperedToken_ShouldBeForbidden() {
+        webTestClient.get().uri("/api/employees")
+                .header("Authorization", "Bearer " + token("alice", "ROLE_USER", 0) + "x")
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    void list_WithoutReadRole_ShouldBeForbidden() {
+        webTestClient.get().uri("/api/employees")
+                .header("Authorization", "Bearer " + token("alice", "ROLE_GUEST", 0))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    void list_ShouldReturnEveryEmployeeInIdOrder() {
+        webTestClient.get().uri("/api/employees")
+                .header("Authorization", "Bearer " + token("alice", "ROLE_USER", 0))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(30)
+                .jsonPath("$[0].id").isEqualTo(1)
+                .jsonPath("$[0].createdAt").isEqualTo("2024-01-02T00:00:00")
+                .jsonPath("$[29].id").isEqualTo(30);
+    }
+
+    @Test
+    void list_WithAfterAndLimit_ShouldContinueFromTheKey() {
+        webTestClient.get().uri("/api/employees?after=10&limit=5")
+                .header("Authorization", "Bearer " + token("alice", "ROLE_USER", 0))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(5)
+                .jsonPath("$[0].id").isEqualTo(11)
+                .jsonPath("$[4].id").isEqualTo(15);
+    }
+
+    @Test
+    void list_WithInvalidLimit_ShouldBeBadRequest() {
+        webTestClient.get().uri("/api/employees?limit=abc")
+                .header("Authorization", "Bearer " + token("alice", "ROLE_USER", 0))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void list_AsNdjson_ShouldStreamOneEmployeePerElementOnDemand() {
+        Flux<EmployeeView> body = webTestClient.get().uri("/api/employees")
+                .header("Authorization", "Bearer " + token("alice", "ROLE_USER", 0))
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(EmployeeView.class)
+                .getResponseBody();
+
+        StepVerifier.create(body, 1)
+                .assertNext(employee -> assertThat(employee.id()).isEqualTo(1L))
+                .thenRequest(2)
+                .expectNextCount(2)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void search_ShouldFilterByDepartmentsAndNamePrefix() {
+        webTestClient.get().uri("/api/employees/search?department=Sales&name=Bob")
+                .header("Authorization", "Bearer " + token("alice", "ROLE_USER", 0))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                // odd multiples of 3 up to 30
+                .jsonPath("$.length()").isEqualTo(5)
+                .jsonPath("$[0].name").isEqualTo("Bob 3")
+                .jsonPath("$[4].name").isEqualTo("Bob 27");
+    }
+
+    @Test
+    void search_ShouldMatchWildcardsLiterally() {
+        webTestClient.get().uri("/api/employees/search?name=%25")
+                .header("Authorization", "Bearer " + token("alice", "ROLE_USER", 0))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(0);
+    }
+
+    @Test
+    void get_ShouldReturnEmployeeOrNotFound() {
+        String token = token("alice", "ROLE_ADMIN", 0);
+        webTestClient.get().uri("/api/employees/7")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Bob 7")
+                .jsonPath("$.department").isEqualTo("IT")
+                .jsonPath("$.version").isEqualTo(0);
+
+        webTestClient.get().uri("/api/employees/999")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void deletedEmployees_ShouldBeHidden() {
+        databaseClient.sql("update empmgmt.employees set deleted_at = current_timestamp, email = null where id in (2, 7)")
+                .then().block();
+        String token = token("alice", "ROLE_USER", 0);
+
+        webTestClient.get().uri("/api/employees?limit=3")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(1)
+                .jsonPath("$[1].id").isEqualTo(3)
+                .jsonPath("$[2].id").isEqualTo(4);
+        webTestClient.get().uri("/api/employees/7")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void revokedToken_ShouldBeForbidden() {
+        String token = token("alice", "ROLE_USER", 0);
+        webTestClient.get().uri("/api/employees/1")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk();
+
+        databaseClient.sql("update empmgmt.users set token_version = 1 where username = 'alice'").then().block();
+
+        webTestClient.get().uri("/api/employees/1")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isForbidden();
+        webTestClient.get().uri("/api/employees/1")
+                .header("Authorization", "Bearer " + token("alice", "ROLE_USER", 1))
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void findAfter_ShouldOnlyFetchWhatIsRequested() {
+        StepVerifier.create(repository.findAfter(0, List.of("IT"), null, 0, 4), 0)
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenRequest(2)
+                .assertNext(employee -> assertThat(employee.id()).isEqualTo(1L))
+                .assertNext(employee -> assertThat(employee.id()).isEqualTo(2L))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void findAfter_ShouldReadPageByPageAndReleaseTheConnectionInBetween() {
+        // rows are taken on another thread, since blocking on the pool from within its release would deadlock
+        StepVerifier.create(repository.findAfter(0, null, null, 0, 4).publishOn(Schedulers.boundedElastic(), 1), 1)
+                .assertNext(employee -> assertThat(employee.id()).isEqualTo(1L))
+                // the pool has a single connection, which the paused listing must not be holding
+                .then(() -> assertThat(repository.findLiveById(7).block(Duration.ofSeconds(5))).isNotNull())
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(29)
+                .verifyComplete();
+
+        StepVerifier.create(repository.findAfter(10, null, null, 9, 4))
+                .expectNextCount(9)
+                .verifyComplete();
+    }
+
+    @Test
+    void verifiedTokens_ShouldBeServedFromTheMeteredCache() {
+        String token = token("alice", "ROLE_USER", 0);
+        double hits = meterRegistry.get("cache.gets").tag("cache", "jwt.verified-tokens").tag("result", "hit")
+                .functionCounter().count();
+
+        for (int i = 0; i < 2; i++) {
+            webTestClient.get().uri("/api/employees/1")
+                    .header("Authorization", "Bearer " + token)
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.verified-tokens").tag("result", "hit")
+                .functionCounter().count()).isGreaterThan(hits);
+    }
+
+    private String token(String username, String roles, int tokenVersion) {
+        return Jwts.builder()
+                .setSubject(username)
+                .claim("roles", roles)
+                .claim("ver", tokenVersion)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
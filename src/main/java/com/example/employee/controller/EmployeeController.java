@@ -1,53 +0,0 @@
-package com.example.employee.controller;
-
-import com.example.employee.model.Employee;
-import com.example.employee.service.EmployeeService;
-import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.web.bind.annotation.*;
-
-import java.net.URI;
-import java.util.List;
-
-@RestController
-@RequestMapping("/api/employees")
-public class EmployeeController {
-
-    private final EmployeeService service;
-
-    public EmployeeController(EmployeeService service) {
-        this.service = service;
-    }
-
-    @PreAuthorize("hasRole('ADMIN')")
-    @PostMapping
-    public ResponseEntity<Employee> create(@RequestBody Employee emp) {
-        Employee created = service.create(emp);
-        return ResponseEntity.created(URI.create("/api/employees/" + created.getId())).body(created);
-    }
-
-    @PreAuthorize("hasAnyRole('ADMIN','USER')")
-    @GetMapping
-    public List<Employee> list() {
-        return service.listAll();
-    }
-
-    @PreAuthorize("hasAnyRole('ADMIN','USER')")
-    @GetMapping("/{id}")
-    public Employee get(@PathVariable Long id) {
-        return service.findById(id);
-    }
-
-    @PreAuthorize("hasRole('ADMIN')")
-    @PutMapping("/{id}")
-    public Employee update(@PathVariable Long id, @RequestBody Employee emp) {
-        return service.update(id, emp);
-    }
-
-    @PreAuthorize("hasRole('ADMIN')")
-    @DeleteMapping("/{id}")
-    public ResponseEntity<?> delete(@PathVariable Long id) {
-        service.delete(id);
-        return ResponseEntity.noContent().build();
-    }
-}
@@ -1,7 +0,0 @@
-package com.example.employee.repository;
-
-import com.example.employee.model.Employee;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
-}
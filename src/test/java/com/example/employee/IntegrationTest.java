@@ -1,94 +0,0 @@
-package com.example.employee;
-
-import com.example.employee.dto.AuthRequest;
-import com.example.employee.model.Employee;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.junit.jupiter.api.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.MediaType;
-import org.springframework.test.annotation.DirtiesContext;
-import org.springframework.test.context.ActiveProfiles;
-import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.test.web.servlet.MvcResult;
-
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
-
-@SpringBootTest
-@AutoConfigureMockMvc
-@ActiveProfiles("test")
-@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
-class IntegrationTest {
-
-    @Autowired
-    private MockMvc mockMvc;
-
-    @Autowired
-    private ObjectMapper objectMapper;
-
-    @Test
-    void fullWorkflow_ShouldWork() throws Exception {
-        // 1. Register a new admin user
-        AuthRequest adminRequest = new AuthRequest();
-        adminRequest.setUsername("admin");
-        adminRequest.setPassword("adminpass");
-        adminRequest.setRole("ROLE_ADMIN");
-
-        mockMvc.perform(post("/api/auth/register")
-                .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(adminRequest)))
-                .andExpect(status().isOk());
-
-        // 2. Login as admin to get token
-        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
-                .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(adminRequest)))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.token").exists())
-                .andReturn();
-
-        String loginResponse = loginResult.getResponse().getContentAsString();
-        String token = objectMapper.readTree(loginResponse).get("token").asText();
-
-        // 3. Create an employee using admin token
-        Employee employee = new Employee();
-        employee.setName("John Doe");
-        employee.setEmail("john.doe@example.com");
-        employee.setDepartment("IT");
-        employee.setSalary(75000.0);
-
-        mockMvc.perform(post("/api/employees")
-                .header("Authorization", "Bearer " + token)
-                .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(employee)))
-                .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.name").value("John Doe"));
-
-        // 4. List employees using admin token
-        mockMvc.perform(get("/api/employees")
-                .header("Authorization", "Bearer " + token))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].name").value("John Doe"));
-    }
-
-    @Test 
-    void unauthorizedAccess_ShouldBeDenied() throws Exception {
-        Employee employee = new Employee();
-        employee.setName("Test Employee");
-        employee.setEmail("test@example.com");
-
-        // Try to create employee without authentication
-        mockMvc.perform(post("/api/employees")
-                .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(employee)))
-                .andExpect(status().isForbidden());
-
-        // Try to list employees without authentication
-        mockMvc.perform(get("/api/employees"))
-                .andExpect(status().isForbidden());
-    }
-}
\ No newline at end of file
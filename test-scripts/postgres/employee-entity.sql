@@ -5,15 +5,29 @@ CREATE TABLE employees (
     email VARCHAR(255) UNIQUE,
     department VARCHAR(255),
     salary DOUBLE PRECISION,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT DEFAULT 0 NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    change_seq BIGINT DEFAULT 0 NOT NULL,
+    deleted_at TIMESTAMP
 );
 
+-- Employee ids come from a pooled Hibernate sequence (allocationSize = 50), so the sequence must step by 50
+ALTER SEQUENCE employees_id_seq INCREMENT BY 50;
+
 -- Create index on email for faster lookups (automatically created with UNIQUE constraint)
 -- CREATE INDEX idx_employees_email ON employees(email);
 
 -- Optional: Create indexes on frequently queried columns
 CREATE INDEX idx_employees_department ON employees(department);
-CREATE INDEX idx_employees_created_at ON employees(created_at);
+-- id is the keyset-pagination tie-breaker, so (created_at, id) serves "ORDER BY created_at, id" seeks directly
+CREATE INDEX idx_employees_created_at ON employees(created_at, id);
+-- text_pattern_ops lets the search's left-anchored "name LIKE 'prefix%'" use an index under any collation
+CREATE INDEX idx_employees_name_prefix ON employees(name text_pattern_ops);
+-- serves the "(change_seq, id) > (?, ?) ORDER BY change_seq, id" seek of the incremental sync and the change feed
+CREATE INDEX idx_employees_change_seq ON employees(change_seq, id);
+-- only tombstones are indexed, for the periodic purge
+CREATE INDEX idx_employees_deleted_at ON employees(deleted_at) WHERE deleted_at IS NOT NULL;
 
 -- Add comments for documentation
 COMMENT ON TABLE employees IS 'Employee information table';
@@ -21,6 +35,36 @@ COMMENT ON COLUMN employees.id IS 'Primary key, auto-generated';
 COMMENT ON COLUMN employees.email IS 'Unique email address';
 COMMENT ON COLUMN employees.salary IS 'Employee salary';
 COMMENT ON COLUMN employees.created_at IS 'Timestamp when the record was created';
+COMMENT ON COLUMN employees.version IS 'Optimistic-lock version, incremented on every update; used for ETags';
+COMMENT ON COLUMN employees.updated_at IS 'Timestamp of the last write, including soft deletes';
+COMMENT ON COLUMN employees.change_seq IS 'employee_change_clock value of the last writing transaction, in commit order; drives the incremental sync';
+COMMENT ON COLUMN employees.deleted_at IS 'Set when the employee is deleted; the row stays as a tombstone until purged';
+
+-- one row, incremented just before each employee-writing transaction commits; versions the listing ETags and
+-- numbers the change_seq of the rows the transaction wrote
+CREATE TABLE employee_change_clock (
+    id INTEGER PRIMARY KEY,
+    seq BIGINT NOT NULL
+);
+INSERT INTO employee_change_clock (id, seq) VALUES (1, 0);
+
+-- Transactional outbox: one row per employee or user change, written in the change's transaction and deleted once
+-- the dispatcher has delivered it
+CREATE TABLE outbox_events (
+    id BIGINT PRIMARY KEY,
+    aggregate_type VARCHAR(255) NOT NULL,
+    aggregate_id VARCHAR(255),
+    event_type VARCHAR(255) NOT NULL,
+    payload VARCHAR(65535) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    available_at TIMESTAMP,
+    attempts INTEGER DEFAULT 0 NOT NULL,
+    last_error VARCHAR(1000)
+);
+CREATE SEQUENCE outbox_events_id_seq INCREMENT BY 50;
+-- serves the dispatcher's "WHERE available_at <= now() ORDER BY available_at, id ... FOR UPDATE SKIP LOCKED"
+CREATE INDEX idx_outbox_events_available_at ON outbox_events(available_at, id);
+COMMENT ON COLUMN outbox_events.available_at IS 'Earliest next delivery attempt; NULL once the event ran out of attempts';
 
 -- Sample DML: Insert 10 employees
 INSERT INTO employees (name, email, department, salary, created_at) VALUES
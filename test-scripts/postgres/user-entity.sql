@@ -2,7 +2,8 @@
 CREATE TABLE users (
     id BIGSERIAL PRIMARY KEY,
     username VARCHAR(255) NOT NULL UNIQUE,
-    password VARCHAR(255) NOT NULL
+    password VARCHAR(255) NOT NULL,
+    token_version INTEGER NOT NULL DEFAULT 0
 );
 
 -- Create the user_roles collection table
@@ -21,4 +22,5 @@ COMMENT ON TABLE users IS 'Stores user account information';
 COMMENT ON TABLE user_roles IS 'Stores user roles as a collection (one-to-many relationship)';
 COMMENT ON COLUMN users.username IS 'Unique username for login';
 COMMENT ON COLUMN users.password IS 'Encrypted password';
+COMMENT ON COLUMN users.token_version IS 'Incremented to revoke every JWT issued to the user so far';
 COMMENT ON COLUMN user_roles.role IS 'Individual role assigned to a user';
\ No newline at end of file